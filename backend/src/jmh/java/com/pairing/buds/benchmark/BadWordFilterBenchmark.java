@@ -0,0 +1,57 @@
+package com.pairing.buds.benchmark;
+
+import com.pairing.buds.common.utils.BadWordFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 욕설 필터 처리량
+ * 보조 지표 bytes 는 초당 스캔한 UTF-8 바이트 수 (MB/s = bytes / 1e6, 단일 스레드 = 코어당)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BadWordFilterBenchmark {
+
+    @Param({"0.05"})
+    public double badWordRatio;
+
+    private BadWordFilter filter;
+    private String[] letters;
+    private int[] letterBytes;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long bytes;
+        private int cursor;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        filter = new BadWordFilter("");
+        List<String> generated = SampleLetters.generate(1_000, badWordRatio, 42L);
+        letters = generated.toArray(new String[0]);
+        letterBytes = new int[letters.length];
+        for (int i = 0; i < letters.length; i++) {
+            letterBytes[i] = letters[i].getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+
+    @Benchmark
+    public boolean isBadWord(Counters counters) {
+        int i = counters.cursor;
+        counters.cursor = (i + 1) % letters.length;
+        counters.bytes += letterBytes[i];
+        return filter.isBadWord(letters[i]);
+    }
+
+}
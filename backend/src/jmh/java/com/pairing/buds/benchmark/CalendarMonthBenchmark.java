@@ -0,0 +1,81 @@
+package com.pairing.buds.benchmark;
+
+import com.pairing.buds.domain.calendar.dto.response.BadgeAndDiaryResDto;
+import com.pairing.buds.domain.calendar.entity.Badge;
+import com.pairing.buds.domain.calendar.entity.Calendar;
+import com.pairing.buds.domain.calendar.entity.CalendarBadge;
+import com.pairing.buds.domain.calendar.entity.Diary;
+import com.pairing.buds.domain.calendar.service.CalendarService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월별 뱃지/일기 응답 조립 (CalendarService.getBadgesAndDiary 의 DB 조회 이후 단계)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CalendarMonthBenchmark {
+
+    private static final String[] BADGE_NAMES = {"WAKE", "WALK", "VOICE_TEXT", "HAPPY", "SAD", "CALM"};
+
+    /** 하루 평균 뱃지 수 **/
+    @Param({"3"})
+    public int badgesPerDay;
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<CalendarBadge> calendarBadges;
+    private List<Diary> diaries;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(11L);
+        startDate = LocalDate.of(2025, 5, 1);
+        endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+
+        List<Badge> badges = new ArrayList<>();
+        for (int i = 0; i < BADGE_NAMES.length; i++) {
+            badges.add(new Badge(i + 1, i < 3 ? "ACTIVITY" : "EMOTION", BADGE_NAMES[i]));
+        }
+
+        calendarBadges = new ArrayList<>();
+        diaries = new ArrayList<>();
+        int calendarId = 1;
+        int diaryId = 1;
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            Calendar calendar = new Calendar();
+            calendar.setId(calendarId++);
+            calendar.setDate(day);
+            calendar.setBadge(BADGE_NAMES[0]);
+            int count = random.nextInt(badgesPerDay * 2 + 1);
+            for (int i = 0; i < count; i++) {
+                CalendarBadge calendarBadge = new CalendarBadge();
+                calendarBadge.setCalendar(calendar);
+                calendarBadge.setBadge(badges.get(random.nextInt(badges.size())));
+                calendarBadges.add(calendarBadge);
+            }
+            if (random.nextInt(3) > 0) {
+                diaries.add(Diary.builder()
+                        .id(diaryId++)
+                        .emotion_diary("오늘은 기분이 좋았다. 산책을 오래 했다.")
+                        .active_diary("만 보 걷기 성공!")
+                        .date(Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant()))
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<BadgeAndDiaryResDto> assembleMonth() {
+        return CalendarService.assembleMonth(startDate, endDate, calendarBadges, diaries);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.pairing.buds.benchmark;
+
+import com.pairing.buds.common.auth.utils.JwtTokenProvider;
+import com.pairing.buds.common.auth.utils.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 / 파싱(서명 검증) / 캐시된 검증 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        byte[] secret = new byte[64];
+        for (int i = 0; i < secret.length; i++) secret[i] = (byte) (i * 31 + 7);
+        ReflectionTestUtils.setField(provider, "secretKey", Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(provider, "accessExpiration", 30 * 60 * 1000L);
+        ReflectionTestUtils.setField(provider, "refreshExpiration", 14 * 24 * 60 * 60 * 1000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", 10_000);
+        provider.init();
+        accessToken = provider.createAccessToken(1234, 1L, "USER");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createAccessToken(1234, 1L, "USER");
+    }
+
+    @Benchmark
+    public VerifiedToken parse() {
+        return provider.parse(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyAccessTokenCached() {
+        return provider.verifyAccessToken(accessToken);
+    }
+
+}
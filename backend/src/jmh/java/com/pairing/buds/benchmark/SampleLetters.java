@@ -0,0 +1,53 @@
+package com.pairing.buds.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 한국어 편지 본문 생성 (고정 시드)
+ * 실제 편지처럼 200~800자 사이 문장을 이어 붙이고, 일부에는 띄어쓰기/기호로 가린 욕설을 섞음
+ */
+final class SampleLetters {
+
+    private static final String[] SENTENCES = {
+            "안녕하세요, 처음 편지를 써 봐요.",
+            "요즘 날씨가 많이 따뜻해져서 산책하기 좋더라고요.",
+            "오늘은 회사에서 조금 힘든 일이 있었어요.",
+            "그래도 퇴근길에 좋아하는 노래를 들으니까 기분이 나아졌어요!",
+            "혹시 요즘 즐겨 듣는 음악이 있으신가요?",
+            "주말에는 친구랑 한강에 가서 치킨을 먹기로 했어요 ㅎㅎ",
+            "잠이 잘 안 와서 새벽까지 책을 읽었는데 생각보다 재미있었어요.",
+            "당신의 하루는 어땠는지 궁금해요.",
+            "가끔은 아무 이유 없이 마음이 무거운 날도 있잖아요.",
+            "그럴 땐 따뜻한 차 한 잔이 꽤 도움이 되더라고요~",
+            "답장 기다릴게요. 좋은 하루 보내세요 :)",
+            "요즘 운동을 시작했는데 매일 만 보 걷기가 목표예요.",
+    };
+
+    private static final String[] OBFUSCATED = {
+            "씨 발", "ㅅㅣㅂㅏㄹ", "병.신", "개 새 끼", "존나",
+    };
+
+    private SampleLetters() {
+    }
+
+    static List<String> generate(int count, double badWordRatio, long seed) {
+        Random random = new Random(seed);
+        List<String> letters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int targetLength = 200 + random.nextInt(600);
+            StringBuilder sb = new StringBuilder(targetLength + 64);
+            while (sb.length() < targetLength) {
+                sb.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+            }
+            if (random.nextDouble() < badWordRatio) {
+                int at = random.nextInt(sb.length());
+                sb.insert(at, ' ' + OBFUSCATED[random.nextInt(OBFUSCATED.length)] + ' ');
+            }
+            letters.add(sb.toString());
+        }
+        return letters;
+    }
+
+}
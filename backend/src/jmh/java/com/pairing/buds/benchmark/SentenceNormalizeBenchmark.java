@@ -0,0 +1,32 @@
+package com.pairing.buds.benchmark;
+
+import com.pairing.buds.domain.activity.service.ActivityService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 음성 인식 활동 인증 문장 정규화 (ActivityService.activitySentenceVoice)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SentenceNormalizeBenchmark {
+
+    private String originalSentence;
+    private String userSentence;
+
+    @Setup
+    public void setUp() {
+        originalSentence = "오늘 하루도 정말 수고 많았어요, 내일은 더 좋은 일이 있을 거예요!";
+        userSentence = "오늘 하루도 정말 수고 많았어요 내일은 더 좋은 일이 있을 거예요.";
+    }
+
+    @Benchmark
+    public boolean normalizeAndCompare() {
+        String original = ActivityService.normalizeSentence(originalSentence);
+        String user = ActivityService.normalizeSentence(userSentence);
+        return !original.isEmpty() && original.equalsIgnoreCase(user);
+    }
+
+}
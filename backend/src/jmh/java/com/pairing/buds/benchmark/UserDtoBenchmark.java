@@ -0,0 +1,82 @@
+package com.pairing.buds.benchmark;
+
+import com.pairing.buds.domain.user.dto.response.UserDto;
+import com.pairing.buds.domain.user.entity.Tag;
+import com.pairing.buds.domain.user.entity.TagType;
+import com.pairing.buds.domain.user.entity.User;
+import com.pairing.buds.domain.user.entity.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태그 기반 친구 추천 응답 변환 (UserDto.toTagBasedUserDto)
+ * 추천 1회 = 후보 10명 변환
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UserDtoBenchmark {
+
+    private static final String[] TAG_NAMES = {
+            "운동", "음악", "독서", "여행", "요리", "게임", "영화", "반려동물", "사진", "공부", "산책", "커피"
+    };
+
+    @Param({"10"})
+    public int candidates;
+
+    private List<User> users;
+    private List<String> allowedTags;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7L);
+        List<TagType> tagTypes = new ArrayList<>();
+        for (int i = 0; i < TAG_NAMES.length; i++) {
+            TagType tagType = new TagType();
+            tagType.setId(i + 1);
+            tagType.setTagName(TAG_NAMES[i]);
+            tagTypes.add(tagType);
+        }
+
+        users = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            User user = new User();
+            user.setId(i + 1);
+            user.setUserEmail("user" + i + "@buds.com");
+            user.setBirthDate(LocalDate.of(1995, 1, 1).plusDays(i));
+            user.setRole(UserRole.USER);
+            user.setIsActive(true);
+            user.setLetterCnt(5);
+            user.setUserName("버즈" + i);
+            Set<Tag> tags = new HashSet<>();
+            int tagCount = 3 + random.nextInt(4);
+            for (int t = 0; t < tagCount; t++) {
+                tags.add(Tag.builder()
+                        .id(i * 10 + t)
+                        .user(user)
+                        .tagType(tagTypes.get(random.nextInt(tagTypes.size())))
+                        .build());
+            }
+            user.setTags(tags);
+            users.add(user);
+        }
+        allowedTags = List.of("운동", "음악", "여행", "커피");
+    }
+
+    @Benchmark
+    public List<UserDto> toTagBasedUserDto() {
+        List<UserDto> result = new ArrayList<>(users.size());
+        for (User user : users) {
+            result.add(UserDto.toTagBasedUserDto(user, allowedTags));
+        }
+        return result;
+    }
+
+}
@@ -5,8 +5,12 @@ import com.pairing.buds.common.auth.filter.JwtAuthenticationFilter;
 import java.util.Arrays;
 import java.util.List;
 
+import jakarta.servlet.DispatcherType;
+
 import com.pairing.buds.common.auth.service.RedisService;
+import com.pairing.buds.common.auth.utils.BoundedBCryptPasswordEncoder;
 import com.pairing.buds.common.auth.utils.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,7 +20,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -39,6 +42,21 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final RedisService redisService;
 
+    /** 기존 기본값(10) 보다 낮추지 않음 **/
+    private static final int BCRYPT_MIN_STRENGTH = 10;
+    private static final int BCRYPT_MAX_STRENGTH = 14;
+
+    @Value("${auth.bcrypt.strength:0}")
+    private int bcryptStrength;
+    @Value("${auth.bcrypt.target-millis:250}")
+    private long bcryptTargetMillis;
+    @Value("${auth.bcrypt.threads:0}")
+    private int bcryptThreads;
+    @Value("${auth.bcrypt.queue-capacity:64}")
+    private int bcryptQueueCapacity;
+    @Value("${auth.bcrypt.timeout-millis:3000}")
+    private long bcryptTimeoutMillis;
+
     public SecurityConfig(AuthenticationConfiguration authenticationConfiguration,
                           CustomUserDetailsService userDetailsService,
                           JwtTokenProvider jwtTokenProvider,
@@ -57,10 +75,14 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
-    // PasswordEncoder 빈
+    // PasswordEncoder 빈 (전용 스레드풀에서 BCrypt 실행, strength 미설정 시 기동 시점에 목표 시간 기준으로 보정)
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = bcryptStrength > 0
+                ? bcryptStrength
+                : BoundedBCryptPasswordEncoder.calibrate(bcryptTargetMillis, BCRYPT_MIN_STRENGTH, BCRYPT_MAX_STRENGTH);
+        int threads = bcryptThreads > 0 ? bcryptThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedBCryptPasswordEncoder(strength, threads, bcryptQueueCapacity, bcryptTimeoutMillis);
     }
 
     // DaoAuthenticationProvider 빈 (UserDetailsService + PasswordEncoder 연결)
@@ -69,6 +91,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
+        // 로그인 성공 시 낮은 cost 로 저장된 해시를 현재 cost 로 재저장
+        provider.setUserDetailsPasswordService(userDetailsService);
         return provider;
     }
 
@@ -88,6 +112,8 @@ public class SecurityConfig {
 
                 // URL 권한 설정
                 .authorizeHttpRequests(authz -> authz
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/login", "/refresh", "/auth/**").permitAll()
                         .anyRequest().authenticated()
                 )
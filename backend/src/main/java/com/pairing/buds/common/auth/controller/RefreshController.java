@@ -5,7 +5,8 @@ import com.pairing.buds.common.response.Message;
 import com.pairing.buds.common.response.ResponseDto;
 import com.pairing.buds.common.response.StatusCode;
 import com.pairing.buds.common.auth.utils.JwtTokenProvider;
-import com.pairing.buds.common.auth.service.RedisService;
+import com.pairing.buds.common.auth.utils.VerifiedToken;
+import com.pairing.buds.common.auth.service.RefreshCoordinator;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,7 +24,7 @@ import org.springframework.web.util.WebUtils;
 public class RefreshController {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisService redisService;
+    private final RefreshCoordinator refreshCoordinator;
 
     @PostMapping
     public ResponseDto refreshAccessToken(HttpServletRequest request,
@@ -35,20 +36,17 @@ public class RefreshController {
             throw new ApiException(StatusCode.UNAUTHORIZED, Message.TOKEN_NOT_FOUND); // 리프레시 토큰이 없습니다
         String refreshToken = refreshCookie.getValue();
          // 유효성 검사 & Redis 에 저장된 것과 비교
-        if (!jwtTokenProvider.validateToken(refreshToken))
+        VerifiedToken verified = jwtTokenProvider.parseOrNull(refreshToken);
+        if (verified == null)
             throw new ApiException(StatusCode.UNAUTHORIZED, Message.TOKEN_NOT_FOUND); // 유효하지 않은 리프레시 토큰입니다.
 
-        Integer userId = jwtTokenProvider.getUserId(refreshToken);
-        // Redis에 저장된 리프레시 토큰과 비교
-        String savedRefresh = redisService.getRefreshToken(userId);
-        if (!refreshToken.equals(savedRefresh))
+        Integer userId = verified.getUserId();
+        // Redis에 저장된 리프레시 토큰과 비교 후 새로운 Access 토큰 생성, 발행시 role도 함꼐 전달
+        // (동시에 들어온 같은 유저의 재발급 요청은 한 번만 발급 후 재사용)
+        String newAccessToken = refreshCoordinator.refresh(userId, refreshToken, verified.getRole());
+        if (newAccessToken == null)
             throw new ApiException(StatusCode.UNAUTHORIZED, Message.TOKEN_NOT_FOUND); // 리프레시 토큰 불일치
 
-        // 새로운 Access 토큰 생성, 발행시 role도 함꼐 전달
-        long currentVer = redisService.getTokenVersion(userId);
-        String role = jwtTokenProvider.getRoleFromToken(refreshToken);
-        String newAccessToken = jwtTokenProvider.createAccessToken(userId, currentVer, role);
-
         // 쿠키에 새로운 토큰 세팅 (기존 쿠키 덮어쓰기)
         jwtTokenProvider.addTokensToResponse(response, newAccessToken, refreshToken);
         return new ResponseDto(StatusCode.OK, "Access Token 재발급 완료");
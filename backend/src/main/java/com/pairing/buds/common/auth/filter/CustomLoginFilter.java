@@ -5,6 +5,7 @@ import com.pairing.buds.common.auth.dto.request.UserLoginReqDto;
 import com.pairing.buds.common.auth.service.RedisService;
 import com.pairing.buds.common.auth.utils.CustomUserDetails;
 import com.pairing.buds.common.auth.utils.JwtTokenProvider;
+import com.pairing.buds.common.exception.PasswordHashingRejectedException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -79,20 +80,16 @@ public class CustomLoginFilter extends AbstractAuthenticationProcessingFilter {
         CustomUserDetails principal = (CustomUserDetails) authResult.getPrincipal();
         Integer userId = principal.getUserId();
 
-        // 이전 RT 무효화, 엑세스 토큰 버전 +1
-        redisService.deleteRefreshToken(userId);
-        long newVersion = redisService.incrementTokenVersion(userId);
-
         // principal에 담긴 권한(user 혹은 admin)
         String role = principal.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .findFirst()
                 .orElseThrow(() -> new RuntimeException("권한 정보가 없습니다."));
 
-        // 새 토큰 생성 및 저장
-        String accessToken = jwtTokenProvider.createAccessToken(userId, newVersion, role); // 액세스 토큰 생성
+        // 새 리프레시 토큰 생성 후 세션 교체 (이전 RT 무효화 + 엑세스 토큰 버전 +1 을 한 번에 처리)
         String refreshToken = jwtTokenProvider.createRefreshToken(userId); // 리프레시 토큰 생성
-        redisService.saveRefreshToken(userId, refreshToken, jwtTokenProvider.getRefreshExpiration());
+        long newVersion = redisService.startSession(userId, refreshToken, jwtTokenProvider.getRefreshExpiration());
+        String accessToken = jwtTokenProvider.createAccessToken(userId, newVersion, role); // 액세스 토큰 생성
 
 //        response.setHeader("Authorization", "Bearer " + accessToken); // 헤더 설정
         jwtTokenProvider.addTokensToResponse(response, accessToken, refreshToken); // 쿠키에 새로운 토큰 설정
@@ -111,6 +108,13 @@ public class CustomLoginFilter extends AbstractAuthenticationProcessingFilter {
     protected void unsuccessfulAuthentication(HttpServletRequest request,
                                               HttpServletResponse response,
                                               AuthenticationException failed) throws IOException {
+        // 비밀번호 검증 스레드풀 포화 → 429(대기열 가득 참) / 503(대기 시간 초과)
+        if (failed instanceof PasswordHashingRejectedException rejected) {
+            response.setHeader("Retry-After", "1");
+            response.sendError(rejected.isQueueFull() ? 429 : HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    "로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+            return;
+        }
         response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "인증 실패");
     }
 
@@ -1,7 +1,9 @@
 package com.pairing.buds.common.auth.filter;
 
 import com.pairing.buds.common.auth.service.RedisService;
+import com.pairing.buds.common.auth.service.RefreshCoordinator;
 import com.pairing.buds.common.auth.utils.JwtTokenProvider;
+import com.pairing.buds.common.auth.utils.VerifiedToken;
 import com.pairing.buds.domain.user.repository.UserRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -35,6 +37,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final RedisService redisService;
+    private final RefreshCoordinator refreshCoordinator;
 
     private final String[] publicPath = {
             "/login", // 로그인
@@ -81,12 +84,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             if (StringUtils.hasText(accessToken)) {
                 try {
-                    // 1) Access Token 검증
-                    jwtTokenProvider.validateToken(accessToken);
+                    // 1) Access Token 검증 (요청당 1회 파싱, 이미 검증된 토큰은 캐시 사용)
+                    VerifiedToken verified = jwtTokenProvider.verifyAccessToken(accessToken);
 
                     // 2) 버전 비교
-                    Integer userId   = jwtTokenProvider.getUserId(accessToken);
-                    long    claimVer = jwtTokenProvider.getVersionFromToken(accessToken);
+                    Integer userId   = verified.getUserId();
+                    long    claimVer = verified.getVersionOrZero();
                     long    currVer  = redisService.getTokenVersion(userId);
                     if (claimVer != currVer) {
                         response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
@@ -95,7 +98,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     }
 
                     // 3) 유효한 Token이라면 인증 정보 생성
-                    auth = getAuthenticationFromAccessToken(accessToken);
+                    auth = getAuthentication(verified);
 
                 } catch (ExpiredJwtException eje) {
                     // 액세스 만료 시 리프레시 확인 로직 실행
@@ -104,19 +107,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (auth == null && StringUtils.hasText(refreshToken)) {
                 // 4) Refresh Token 검증
-                if (jwtTokenProvider.validateToken(refreshToken)) {
-                    Integer userId = jwtTokenProvider.getUserId(refreshToken);
-                    String savedRefresh = redisService.getRefreshToken(userId);
-                    if (refreshToken.equals(savedRefresh)) {
-                        // 5) Redis 일치 → 새 Access 발급
-                        long currVer = redisService.getTokenVersion(userId);
-
-                        // 새 엑세스 토큰 발행시 role도 함꼐 전달
-                        String role   = jwtTokenProvider.getRoleFromToken(refreshToken);
-                        String newAccess = jwtTokenProvider.createAccessToken(userId, currVer, role);
-
+                VerifiedToken verifiedRefresh = jwtTokenProvider.parseOrNull(refreshToken);
+                if (verifiedRefresh != null) {
+                    Integer userId = verifiedRefresh.getUserId();
+                    // 새 엑세스 토큰 발행시 role도 함꼐 전달
+                    String role = verifiedRefresh.getRole();
+
+                    // 5) Redis 일치 → 새 Access 발급 (같은 유저의 동시 요청은 한 번만 발급 후 재사용)
+                    String newAccess = refreshCoordinator.refresh(userId, refreshToken, role);
+                    if (newAccess != null) {
                         jwtTokenProvider.addTokensToResponse(response, newAccess, refreshToken);
-                        auth = getAuthenticationFromAccessToken(newAccess);
+                        auth = getAuthentication(userId, role);
                     } else {
                         response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
                                 "리프레시 토큰이 유효하지 않습니다.");
@@ -139,20 +140,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private Authentication getAuthenticationFromAccessToken(String token) {
-        Integer userId = jwtTokenProvider.getUserId(token);
-        String  role   = jwtTokenProvider.getRoleFromToken(token);
+    private Authentication getAuthentication(VerifiedToken verified) {
+        return getAuthentication(verified.getUserId(), verified.getRole());
+    }
 
+    private Authentication getAuthentication(Integer userId, String role) {
         // role(claim) 기반으로 GrantedAuthority 생성
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role);
 
-//        User user = userRepository.findById(userId)
-//                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. id=" + userId));
-//
-//        // 권한 정보만 CustomUserDetails에서 꺼내 온다고 가정
-//        CustomUserDetails userDetails = new CustomUserDetails(user);
-//        Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
-
         return new UsernamePasswordAuthenticationToken(
                 userId,
                 null,
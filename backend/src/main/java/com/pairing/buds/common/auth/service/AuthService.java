@@ -7,9 +7,11 @@ import com.pairing.buds.common.auth.dto.response.RandomNameResDto;
 import com.pairing.buds.common.exception.ApiException;
 import com.pairing.buds.common.response.Message;
 import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.domain.letter.service.ReceiverPool;
 import com.pairing.buds.domain.user.entity.*;
 import com.pairing.buds.domain.user.repository.UserRepository;
 import com.pairing.buds.domain.user.repository.RandomNameRepository;
+import com.pairing.buds.domain.user.service.PersonaIndex;
 import com.pairing.buds.domain.user.service.VerificationService;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -27,6 +29,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final VerificationService verificationService;
     private final RandomNameRepository randomNameRepository;
+    private final ReceiverPool receiverPool;
+    private final PersonaIndex personaIndex;
 
     /** 회원 가입 **/
     @Transactional
@@ -43,6 +47,7 @@ public class AuthService {
         String encodedPwd = passwordEncoder.encode(dto.getPassword());
         User user = UserSignupReqDto.toUser(dto, encodedPwd);
         userRepository.save(user);
+        receiverPool.add(user.getId());
     }
 
     /** 닉네임/캐릭터 저장 **/
@@ -89,6 +94,8 @@ public class AuthService {
 
         userRepository.save(user);
         randomNameRepository.save(rn);
+        // 설문이 먼저 저장된 경우 가입 완료 시점에 페르소나 색인에 반영
+        personaIndex.updateUser(user);
     }
 
     /** 회원 비밀번호 수정 **/
@@ -1,39 +1,46 @@
 package com.pairing.buds.common.auth.service;
 
 import com.pairing.buds.common.auth.utils.CustomUserDetails;
-import com.pairing.buds.domain.admin.entity.Admin;
 import com.pairing.buds.domain.admin.repository.AdminRepository;
-import com.pairing.buds.domain.user.entity.User;
+import com.pairing.buds.domain.user.dto.response.LoginCredentialsDto;
 import com.pairing.buds.domain.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final AdminRepository adminRepository;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // 관리자
-        if ("admin@ssafy.com".equalsIgnoreCase(email)) {
-            Admin admin = adminRepository.findByEmail(email)
-                    .orElseThrow(() ->
-                            new UsernameNotFoundException("관리자 계정을 찾을 수 없습니다. 이메일: " + email)
-                    );
-            return new CustomUserDetails(admin);
-        }
-
-        // 일반 사용자
-        User user = userRepository.findByUserEmailAndIsActiveTrue(email)
+        // 관리자 / 활성 사용자 통합 조회 (엔티티 대신 로그인에 필요한 컬럼만)
+        LoginCredentialsDto credentials = userRepository.findLoginCredentialsByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. 이메일: " + email));
 
-        return new CustomUserDetails(user);
+        return new CustomUserDetails(credentials);
+    }
+
+    /** 로그인 성공 시 낮은 BCrypt cost 로 저장된 비밀번호를 새 해시로 교체 **/
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails details = (CustomUserDetails) user;
+        int updated;
+        if ("ADMIN".equals(details.getRole())) {
+            updated = adminRepository.updatePasswordByEmail(details.getUsername(), newPassword);
+        } else {
+            updated = userRepository.updatePasswordByUserEmail(details.getUsername(), newPassword);
+        }
+        // 그 사이 비활성화되어 갱신되지 않았다면 기존 해시 그대로 반환
+        return updated > 0 ? details.withPassword(newPassword) : user;
     }
 
 }
@@ -1,63 +1,323 @@
 package com.pairing.buds.common.auth.service;
 
+import com.pairing.buds.common.auth.utils.TokenDigests;
+import com.pairing.buds.common.auth.utils.TokenVersionCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
 
+@Slf4j
 @Service
 public class RedisService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final String REFRESH_PREFIX = "refresh:";
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TokenVersionCache tokenVersionCache;
+    private final long accessExpirationMillis;
+    /** 유저별 세션 해시 (rt: 리프레시 토큰 다이제스트, ver: 엑세스 토큰 버전, exp: RT 만료 시각) **/
+    private static final String SESSION_PREFIX = "session:";
+    private static final String FIELD_REFRESH = "rt";
+    private static final String FIELD_VERSION = "ver";
+    private static final String FIELD_EXPIRES_AT = "exp";
+    /** 리프레시 단일 처리용 락 / 직전 발급 결과 (짧은 TTL) **/
+    private static final String REFRESH_LOCK_PREFIX = "refresh-lock:";
+    private static final String REFRESH_RESULT_PREFIX = "refresh-result:";
+    /** 이전 방식 키 (로그인 시 정리) **/
+    private static final String REFRESH_PREFIX = "refresh:";
     private static final String VERSION_PREFIX = "ver:";
+    /** 버전 변경 알림 채널, 메시지 형식 "userId:version" (삭제 시 "userId", 전체 삭제 시 "*") **/
+    private static final String VERSION_CHANNEL = "token-version";
+    private static final String ALL_USERS = "*";
+    private static final int DEFAULT_SCAN_COUNT = 500;
 
-    public RedisService(@Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+    private static final RedisScript<Long> LOGIN_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'rt', ARGV[1], 'exp', ARGV[2])
+            local ver = redis.call('HINCRBY', KEYS[1], 'ver', 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('DEL', KEYS[2], KEYS[3], KEYS[4])
+            return ver
+            """, Long.class);
+    /**
+     * 세션 강제 종료 : 세션 해시를 지우지 않고 버전을 올린 뒤 RT만 삭제
+     * (해시를 지우면 다음 로그인에서 버전이 1부터 다시 발급되어 아직 만료되지 않은 예전 엑세스 토큰이 다시 통과함)
+     * TTL은 최소 엑세스 토큰 수명만큼 유지, 키마다 [새 버전, 기존 세션 존재 여부(1/0)] 반환
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            local ttl = tonumber(ARGV[1])
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                local existed = redis.call('EXISTS', key)
+                local ver = redis.call('HINCRBY', key, 'ver', 1)
+                redis.call('HDEL', key, 'rt', 'exp')
+                if redis.call('PTTL', key) < ttl then
+                    redis.call('PEXPIRE', key, ttl)
+                end
+                result[2 * i - 1] = ver
+                result[2 * i] = existed
+            end
+            return result
+            """, List.class);
+
+    /** 값이 같을 때만 삭제 (락 소유 확인 후 해제) **/
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    public RedisService(@Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                        RedisMessageListenerContainer listenerContainer,
+                        @Value("${auth.token-version.cache-ttl-millis:5000}") long versionCacheTtlMillis,
+                        @Value("${auth.token-version.cache-max-size:100000}") int versionCacheMaxSize,
+                        @Value("${jwt.access-expiration-time}") long accessExpirationMillis) {
         this.redisTemplate = redisTemplate;
+        this.accessExpirationMillis = accessExpirationMillis;
+        this.listenerContainer = listenerContainer;
+        this.tokenVersionCache = new TokenVersionCache(versionCacheTtlMillis, versionCacheMaxSize);
+    }
+
+    /** 다른 노드의 버전 변경 구독 **/
+    @PostConstruct
+    public void subscribeTokenVersion() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onTokenVersionMessage(message),
+                new ChannelTopic(VERSION_CHANNEL)
+        );
     }
 
-    // RefreshToken 저장
-    public void saveRefreshToken(Integer userId, String refreshToken, long expirationMillis) {
-        String key = REFRESH_PREFIX + userId;
-        redisTemplate.opsForValue().set(key, refreshToken, expirationMillis, TimeUnit.MILLISECONDS);
+    /**
+     * 로그인 시 호출 (스크립트 1회 실행)
+     * - 세션 해시에 새 리프레시 토큰 다이제스트/만료 시각 저장 → 이전 RT 무효화
+     * - 엑세스 토큰 버전 +1
+     * - 세션 키에 RT 만료 시간만큼 TTL 설정, 이전 방식(refresh:, ver:) 키와 직전 리프레시 결과 정리
+     * 증가된 버전 반환 (로컬 캐시 갱신 후 다른 노드에 전파)
+     */
+    public long startSession(Integer userId, String refreshToken, long expirationMillis) {
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+        Long version = redisTemplate.execute(
+                LOGIN_SCRIPT,
+                List.of(SESSION_PREFIX + userId, REFRESH_PREFIX + userId, VERSION_PREFIX + userId,
+                        REFRESH_RESULT_PREFIX + userId),
+                TokenDigests.sha256(refreshToken),
+                String.valueOf(expiresAt),
+                String.valueOf(expirationMillis)
+        );
+        long newVersion = (version == null) ? 0L : version;
+        tokenVersionCache.put(userId, newVersion);
+        redisTemplate.convertAndSend(VERSION_CHANNEL, userId + ":" + newVersion);
+        return newVersion;
     }
 
-    // RefreshToken 조회
-    public String getRefreshToken(Integer userId) {
-        String key = REFRESH_PREFIX + userId;
-        return redisTemplate.opsForValue().get(key);
+    /**
+     * 리프레시 시 호출 (HMGET 1회)
+     * 저장된 RT 다이제스트와 일치하면 현재 엑세스 토큰 버전, 불일치/세션 없음이면 null
+     */
+    public Long getVersionIfRefreshMatches(Integer userId, String refreshToken) {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(SESSION_PREFIX + userId, List.of(FIELD_REFRESH, FIELD_VERSION));
+        Object savedDigest = values.get(0);
+        if (savedDigest == null || !savedDigest.equals(TokenDigests.sha256(refreshToken))) {
+            return null;
+        }
+        Object ver = values.get(1);
+        long version = (ver == null) ? 0L : Long.parseLong(ver.toString());
+        tokenVersionCache.put(userId, version);
+        return version;
     }
 
-    // RefreshToken 삭제 (로그아웃)
+    // RefreshToken 삭제 (로그아웃), 직전 리프레시 결과도 함께 삭제해 재사용되지 않도록 함
     public void deleteRefreshToken(Integer userId) {
-        String key = REFRESH_PREFIX + userId;
-        redisTemplate.delete(key);
+        redisTemplate.opsForHash().delete(SESSION_PREFIX + userId, FIELD_REFRESH, FIELD_EXPIRES_AT);
+        redisTemplate.delete(REFRESH_RESULT_PREFIX + userId);
     }
 
-    // (중복로그인 테스트용) 모든 키를 가져온 뒤 한 번에 삭제
+    // (중복로그인 테스트용) 모든 세션 키 삭제, KEYS 대신 SCAN + UNLINK
     public void deleteRefreshTokenAll() {
-        Set<String> keys = redisTemplate.keys("refresh_token:*");
-        if (!keys.isEmpty()) {
-            redisTemplate.delete(keys);
+        for (String pattern : sessionKeyPatterns()) {
+            unlinkMatching(pattern, DEFAULT_SCAN_COUNT, 0L, null);
+        }
+    }
+
+    /** 세션 관련 키 패턴 (세션 해시, 직전 리프레시 결과, 이전 방식 키) **/
+    public List<String> sessionKeyPatterns() {
+        return List.of(SESSION_PREFIX + "*", REFRESH_RESULT_PREFIX + "*", REFRESH_PREFIX + "*", VERSION_PREFIX + "*");
+    }
+
+    /**
+     * 지정한 유저들의 세션 강제 종료
+     * 세션 해시의 엑세스 토큰 버전을 올리고 RT를 삭제 → 기존 토큰 거부 (버전은 초기화하지 않으므로 재로그인해도 예전 버전이 다시 발급되지 않음)
+     * 직전 리프레시 결과와 이전 방식 키는 UNLINK
+     * 종료된 세션 수 + 삭제된 키 개수 반환
+     */
+    public long revokeSessions(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) return 0L;
+        List<Integer> ids = List.copyOf(userIds);
+        List<String> sessionKeys = new ArrayList<>(ids.size());
+        List<String> keys = new ArrayList<>(ids.size() * 3);
+        for (Integer userId : ids) {
+            sessionKeys.add(SESSION_PREFIX + userId);
+            keys.add(REFRESH_RESULT_PREFIX + userId);
+            keys.add(REFRESH_PREFIX + userId);
+            keys.add(VERSION_PREFIX + userId);
+        }
+        long revoked = revokeSessionKeys(sessionKeys, ids);
+        Long removed = redisTemplate.unlink(keys);
+        return revoked + (removed == null ? 0L : removed);
+    }
+
+    /**
+     * 패턴에 맞는 키를 SCAN으로 batchSize씩 훑으며 UNLINK (세션 해시는 삭제 대신 revokeSessions 와 같이 버전을 올려 종료)
+     * - KEYS와 달리 한 번에 batchSize 정도만 확인하므로 Redis를 오래 붙잡지 않음
+     * - UNLINK는 메모리 해제를 백그라운드 스레드에서 처리
+     * - 배치 사이에 pauseMillis만큼 쉬어 다른 요청의 지연을 평탄하게 유지
+     * 배치마다 onBatch(확인한 키 수, 삭제한 키 수) 호출, 총 삭제 개수 반환
+     */
+    public long unlinkMatching(String pattern, int batchSize, long pauseMillis, BiConsumer<Integer, Long> onBatch) {
+        boolean sessionKeys = pattern.startsWith(SESSION_PREFIX);
+        boolean versionKeys = sessionKeys || pattern.startsWith(VERSION_PREFIX);
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        long total = 0L;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize || !cursor.hasNext()) {
+                    total += unlinkBatch(batch, sessionKeys, versionKeys, onBatch);
+                    batch.clear();
+                    if (pauseMillis > 0 && cursor.hasNext()) {
+                        Thread.sleep(pauseMillis);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("세션 키 정리 중단: pattern={}, 삭제={}", pattern, total);
+        }
+        if (!batch.isEmpty()) {
+            total += unlinkBatch(batch, sessionKeys, versionKeys, onBatch);
+        }
+        return total;
+    }
+
+    private long unlinkBatch(List<String> batch, boolean sessionKeys, boolean versionKeys, BiConsumer<Integer, Long> onBatch) {
+        long count;
+        if (sessionKeys) {
+            count = revokeSessionKeys(batch, null);
+        } else {
+            Long removed = redisTemplate.unlink(batch);
+            count = removed == null ? 0L : removed;
+        }
+        if (versionKeys) {
+            // 유저별 메시지 대신 배치당 한 번 전체 캐시 비우기 알림
+            tokenVersionCache.clear();
+            redisTemplate.convertAndSend(VERSION_CHANNEL, ALL_USERS);
         }
+        if (onBatch != null) onBatch.accept(batch.size(), count);
+        return count;
     }
 
-    // 로그인 시 호출, 버전 1 증가, 증가된 값 반환
-    public long incrementTokenVersion(Integer userId) {
-        return redisTemplate.opsForValue().increment(VERSION_PREFIX + userId, 1);
+    // 세션 해시 버전 올리기 (userIds가 있으면 유저별로 새 버전을 캐시에 반영하고 전파), 기존에 있던 세션 수 반환
+    private long revokeSessionKeys(List<String> keys, List<Integer> userIds) {
+        List<?> result = redisTemplate.execute(REVOKE_SCRIPT, keys, String.valueOf(accessExpirationMillis));
+        if (result == null) return 0L;
+        long existed = 0L;
+        for (int i = 0; i < keys.size(); i++) {
+            existed += ((Number) result.get(2 * i + 1)).longValue();
+            if (userIds != null) {
+                long version = ((Number) result.get(2 * i)).longValue();
+                tokenVersionCache.put(userIds.get(i), version);
+                redisTemplate.convertAndSend(VERSION_CHANNEL, userIds.get(i) + ":" + version);
+            }
+        }
+        return existed;
     }
 
-    // 요청 검증 시 호출: 현재 버전 조회 (없으면 0)
+    // 요청 검증 시 호출: 현재 버전 조회 (없으면 0), 로컬 캐시 우선
     public long getTokenVersion(Integer userId) {
-        String val = redisTemplate.opsForValue().get(VERSION_PREFIX + userId);
-        return (val == null) ? 0L : Long.parseLong(val);
+        Long cached = tokenVersionCache.get(userId);
+        if (cached != null) return cached;
+
+        Object val = redisTemplate.opsForHash().get(SESSION_PREFIX + userId, FIELD_VERSION);
+        long version = (val == null) ? 0L : Long.parseLong(val.toString());
+        tokenVersionCache.put(userId, version);
+        return version;
     }
 
     // 로그아웃 시 버전 삭제
     public void deleteTokenVersion(Integer userId) {
-        redisTemplate.delete(VERSION_PREFIX + userId);
+        redisTemplate.opsForHash().delete(SESSION_PREFIX + userId, FIELD_VERSION);
+        tokenVersionCache.invalidate(userId, null);
+        redisTemplate.convertAndSend(VERSION_CHANNEL, String.valueOf(userId));
+    }
+
+    // 리프레시 락 획득 (노드 간 동시 리프레시 방지), 획득 시 해제에 쓸 소유 토큰, 실패 시 null
+    public String tryLockRefresh(Integer userId, long ttlMillis) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(REFRESH_LOCK_PREFIX + userId, token, Duration.ofMillis(ttlMillis));
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    // 리프레시 락 해제 (TTL이 지나 다른 요청이 다시 잡은 락은 지우지 않도록 소유 토큰이 같을 때만 삭제)
+    public void unlockRefresh(Integer userId, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(REFRESH_LOCK_PREFIX + userId), token);
+    }
+
+    // 직전에 발급한 엑세스 토큰 저장 (같은 RT로 들어온 다른 요청이 재사용)
+    public void saveRefreshResult(Integer userId, String refreshToken, String accessToken, long ttlMillis) {
+        String value = TokenDigests.sha256(refreshToken) + "|" + accessToken;
+        redisTemplate.opsForValue().set(REFRESH_RESULT_PREFIX + userId, value, Duration.ofMillis(ttlMillis));
+    }
+
+    // 같은 RT로 직전에 발급된 엑세스 토큰 조회, 없으면 null
+    public String getRefreshResult(Integer userId, String refreshToken) {
+        String value = redisTemplate.opsForValue().get(REFRESH_RESULT_PREFIX + userId);
+        if (value == null) return null;
+        int sep = value.indexOf('|');
+        if (sep < 0 || !value.substring(0, sep).equals(TokenDigests.sha256(refreshToken))) return null;
+        return value.substring(sep + 1);
+    }
+
+    // 버전 변경 메시지 수신: 알려온 버전과 다른 로컬 캐시 제거
+    private void onTokenVersionMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (ALL_USERS.equals(body)) {
+            tokenVersionCache.clear();
+            return;
+        }
+        try {
+            int sep = body.indexOf(':');
+            if (sep < 0) {
+                tokenVersionCache.invalidate(Integer.valueOf(body), null);
+            } else {
+                tokenVersionCache.invalidate(
+                        Integer.valueOf(body.substring(0, sep)),
+                        Long.valueOf(body.substring(sep + 1))
+                );
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 버전 메시지: {}", body);
+        }
     }
 
 }
@@ -0,0 +1,157 @@
+package com.pairing.buds.common.auth.service;
+
+import com.pairing.buds.common.auth.utils.JwtTokenProvider;
+import com.pairing.buds.common.auth.utils.TokenDigests;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 리프레시 토큰으로 엑세스 토큰 재발급 시 유저별 단일 처리(single-flight)
+ * - 같은 노드 : 같은 RT로 동시에 들어온 요청은 첫 요청의 발급 결과를 기다렸다가 재사용
+ * - 다른 노드 : Redis 락을 잡은 노드만 발급하고, 나머지는 Redis에 남긴 결과를 재사용
+ * 재사용 구간(reuse-window) 동안은 같은 엑세스 토큰이 응답되므로 서명/쿠키 교체가 한 번만 일어남
+ * 재사용 결과를 돌려주기 전에는 RT가 아직 세션과 일치하는지 다시 확인 (로그아웃/강제 종료/재로그인 후 재사용 방지)
+ */
+@Slf4j
+@Service
+public class RefreshCoordinator {
+
+    private final RedisService redisService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long reuseWindowMillis;
+    private final long lockMillis;
+    private final long waitMillis;
+
+    /** key : userId + RT 다이제스트 **/
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    public RefreshCoordinator(RedisService redisService,
+                              JwtTokenProvider jwtTokenProvider,
+                              @Value("${auth.refresh.reuse-window-millis:5000}") long reuseWindowMillis,
+                              @Value("${auth.refresh.lock-millis:3000}") long lockMillis,
+                              @Value("${auth.refresh.wait-millis:500}") long waitMillis) {
+        this.redisService = redisService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.reuseWindowMillis = reuseWindowMillis;
+        this.lockMillis = lockMillis;
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * 새 엑세스 토큰 반환
+     * RT가 Redis 세션과 일치하지 않으면 null
+     */
+    public String refresh(Integer userId, String refreshToken, String role) {
+        String key = userId + ":" + TokenDigests.sha256(refreshToken);
+        long now = System.currentTimeMillis();
+        Flight flight = flights.compute(key, (k, f) -> (f == null || f.isStale(now, reuseWindowMillis)) ? new Flight(now) : f);
+
+        if (flight.tryLead()) {
+            try {
+                String accessToken = mint(userId, refreshToken, role);
+                flight.future.complete(accessToken);
+                if (accessToken == null) flights.remove(key, flight);
+                return accessToken;
+            } catch (RuntimeException e) {
+                flight.future.completeExceptionally(e);
+                flights.remove(key, flight);
+                throw e;
+            }
+        }
+
+        try {
+            String reused = revalidate(userId, refreshToken, flight.future.get(lockMillis, TimeUnit.MILLISECONDS));
+            if (reused == null) flights.remove(key, flight);
+            return reused;
+        } catch (TimeoutException e) {
+            log.warn("리프레시 대기 시간 초과, 직접 발급합니다. userId={}", userId);
+            return mint(userId, refreshToken, role);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /** 다른 노드 결과 재사용 → 락 획득 후 발급 → (락 획득 실패 시) 결과 대기 후 직접 발급 **/
+    private String mint(Integer userId, String refreshToken, String role) {
+        String reused = redisService.getRefreshResult(userId, refreshToken);
+        if (reused != null) return revalidate(userId, refreshToken, reused);
+
+        String lockToken = redisService.tryLockRefresh(userId, lockMillis);
+        if (lockToken == null) {
+            String remote = awaitRemoteResult(userId, refreshToken);
+            if (remote != null) return revalidate(userId, refreshToken, remote);
+        }
+
+        try {
+            Long version = redisService.getVersionIfRefreshMatches(userId, refreshToken);
+            if (version == null) return null;
+
+            String accessToken = jwtTokenProvider.createAccessToken(userId, version, role);
+            redisService.saveRefreshResult(userId, refreshToken, accessToken, reuseWindowMillis);
+            return accessToken;
+        } finally {
+            if (lockToken != null) redisService.unlockRefresh(userId, lockToken);
+        }
+    }
+
+    /** 재사용할 결과는 RT가 아직 세션과 일치할 때만 반환 (HMGET 1회), 아니면 null **/
+    private String revalidate(Integer userId, String refreshToken, String accessToken) {
+        if (accessToken == null) return null;
+        return redisService.getVersionIfRefreshMatches(userId, refreshToken) != null ? accessToken : null;
+    }
+
+    private String awaitRemoteResult(Integer userId, String refreshToken) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            String result = redisService.getRefreshResult(userId, refreshToken);
+            if (result != null) return result;
+        }
+        return null;
+    }
+
+    /** 재사용 구간이 지난 항목 정리 **/
+    @Scheduled(fixedDelay = 60_000)
+    public void evictStaleFlights() {
+        long now = System.currentTimeMillis();
+        flights.values().removeIf(f -> f.isStale(now, reuseWindowMillis));
+    }
+
+    private static final class Flight {
+        private final long startedAt;
+        private final AtomicBoolean led = new AtomicBoolean();
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        private Flight(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private boolean tryLead() {
+            return led.compareAndSet(false, true);
+        }
+
+        private boolean isStale(long now, long reuseWindowMillis) {
+            return now - startedAt >= reuseWindowMillis;
+        }
+    }
+
+}
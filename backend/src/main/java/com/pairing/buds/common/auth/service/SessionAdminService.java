@@ -0,0 +1,177 @@
+package com.pairing.buds.common.auth.service;
+
+import com.pairing.buds.common.exception.ApiException;
+import com.pairing.buds.common.response.Message;
+import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.domain.admin.dto.response.RevokeSessionsResDto;
+import com.pairing.buds.domain.admin.dto.response.SessionRevokeJobResDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자용 세션 일괄 종료
+ * - 한 명 / 여러 명 : 유저별 키를 직접 계산해 배치 단위로 처리
+ * - 전체 : 백그라운드에서 SCAN 으로 배치 단위 처리, 진행 상황은 Redis 해시에 기록해 어느 노드에서든 조회 가능
+ * 세션 해시는 삭제하지 않고 엑세스 토큰 버전을 올려 종료 (RedisService.revokeSessions), 나머지 키는 UNLINK
+ * 배치 크기와 배치 사이 대기 시간으로 Redis 부하를 제한해 실시간 요청 지연이 튀지 않도록 함
+ */
+@Slf4j
+@Service
+public class SessionAdminService {
+
+    private static final String JOB_PREFIX = "session-revoke-job:";
+    /** 동시에 하나의 전체 종료 작업만 실행 (값 : 실행 중인 jobId) **/
+    private static final String RUNNING_KEY = "session-revoke-running";
+    private static final Duration JOB_TTL = Duration.ofDays(1);
+    private static final Duration RUNNING_TTL = Duration.ofHours(1);
+
+    private final RedisService redisService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "session-revoke");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SessionAdminService(RedisService redisService,
+                               @Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                               @Value("${auth.session-revoke.batch-size:500}") int batchSize,
+                               @Value("${auth.session-revoke.pause-millis:10}") long pauseMillis) {
+        this.redisService = redisService;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMillis = Math.max(0L, pauseMillis);
+    }
+
+    /** 한 유저의 세션 종료 **/
+    public RevokeSessionsResDto revokeUser(int userId) {
+        long removed = redisService.revokeSessions(List.of(userId));
+        return new RevokeSessionsResDto(1, removed);
+    }
+
+    /** 여러 유저의 세션 종료 (batchSize 단위로 나눠 처리) **/
+    public RevokeSessionsResDto revokeUsers(List<Integer> userIds) {
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(userIds));
+        long removed = 0L;
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, distinct.size());
+            removed += redisService.revokeSessions(distinct.subList(from, to));
+            if (to < distinct.size()) pause();
+        }
+        return new RevokeSessionsResDto(distinct.size(), removed);
+    }
+
+    /**
+     * 전체 세션 종료 작업 시작
+     * 이미 실행 중인 작업이 있으면 새로 시작하지 않고 해당 작업의 진행 상황 반환
+     */
+    public SessionRevokeJobResDto revokeAll(int adminId) {
+        String jobId = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RUNNING_KEY, jobId, RUNNING_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            String runningId = redisTemplate.opsForValue().get(RUNNING_KEY);
+            if (runningId != null) return getJob(runningId);
+            return revokeAll(adminId);
+        }
+
+        writeJob(jobId, Map.of(
+                "status", SessionRevokeJobResDto.STATUS_RUNNING,
+                "requestedBy", String.valueOf(adminId),
+                "scannedKeys", "0",
+                "revokedKeys", "0",
+                "startedAt", String.valueOf(System.currentTimeMillis())
+        ));
+        try {
+            executor.execute(() -> runRevokeAll(jobId));
+        } catch (RejectedExecutionException e) {
+            finishJob(jobId, SessionRevokeJobResDto.STATUS_FAILED);
+            throw new ApiException(StatusCode.SERVICE_UNAVAILABLE, Message.SERVER_BUSY);
+        }
+        log.info("전체 세션 종료 시작: jobId={}, adminId={}", jobId, adminId);
+        return getJob(jobId);
+    }
+
+    /** 전체 세션 종료 작업 진행 상황 **/
+    public SessionRevokeJobResDto getJob(String jobId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(JOB_PREFIX + jobId);
+        if (fields.isEmpty()) {
+            throw new ApiException(StatusCode.NOT_FOUND, Message.SESSION_REVOKE_JOB_NOT_FOUND);
+        }
+        return SessionRevokeJobResDto.toDto(jobId, fields);
+    }
+
+    private void runRevokeAll(String jobId) {
+        AtomicLong scanned = new AtomicLong();
+        AtomicLong revoked = new AtomicLong();
+        String status = SessionRevokeJobResDto.STATUS_DONE;
+        try {
+            for (String pattern : redisService.sessionKeyPatterns()) {
+                redisTemplate.opsForHash().put(JOB_PREFIX + jobId, "currentPattern", pattern);
+                redisService.unlinkMatching(pattern, batchSize, pauseMillis, (scannedInBatch, revokedInBatch) -> {
+                    // 배치마다 진행 상황 기록 (HSET 1회)
+                    writeJob(jobId, Map.of(
+                            "scannedKeys", String.valueOf(scanned.addAndGet(scannedInBatch)),
+                            "revokedKeys", String.valueOf(revoked.addAndGet(revokedInBatch))
+                    ));
+                });
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                status = SessionRevokeJobResDto.STATUS_FAILED;
+            }
+        } catch (RuntimeException e) {
+            status = SessionRevokeJobResDto.STATUS_FAILED;
+            log.error("전체 세션 종료 실패: jobId={}", jobId, e);
+        } finally {
+            finishJob(jobId, status);
+            log.info("전체 세션 종료 {}: jobId={}, 확인={}, 삭제={}", status, jobId, scanned.get(), revoked.get());
+        }
+    }
+
+    private void finishJob(String jobId, String status) {
+        writeJob(jobId, Map.of(
+                "status", status,
+                "finishedAt", String.valueOf(System.currentTimeMillis())
+        ));
+        if (jobId.equals(redisTemplate.opsForValue().get(RUNNING_KEY))) {
+            redisTemplate.delete(RUNNING_KEY);
+        }
+    }
+
+    private void writeJob(String jobId, Map<String, String> fields) {
+        String key = JOB_PREFIX + jobId;
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, JOB_TTL);
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) return;
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
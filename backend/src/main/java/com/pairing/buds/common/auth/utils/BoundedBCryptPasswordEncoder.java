@@ -0,0 +1,125 @@
+package com.pairing.buds.common.auth.utils;
+
+import com.pairing.buds.common.exception.PasswordHashingRejectedException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 연산을 전용 스레드풀에서 실행하는 PasswordEncoder
+ * - 동시에 해시를 계산하는 스레드 수와 대기열 길이를 제한해 로그인 폭주가 Tomcat 워커 전체를 점유하지 않도록 함
+ * - 대기열이 가득 차면 즉시 PasswordHashingRejectedException(queueFull = true)
+ * - 대기 시간을 넘기면 PasswordHashingRejectedException(queueFull = false)
+ * - upgradeEncoding : 저장된 해시의 cost가 현재 설정보다 낮으면 true → 로그인 성공 시 재해시
+ */
+@Slf4j
+public class BoundedBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final String CALIBRATION_PASSWORD = "buds-bcrypt-calibration";
+
+    @Getter
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public BoundedBCryptPasswordEncoder(int strength, int threads, int queueCapacity, long timeoutMillis) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "bcrypt-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 목표 시간(targetMillis) 안에서 가능한 가장 높은 cost 계산
+     * minStrength로 한 번 측정한 뒤 cost +1 마다 2배씩 늘어난다고 보고 추정
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(CALIBRATION_PASSWORD); // JIT 워밍업
+
+        long start = System.nanoTime();
+        probe.encode(CALIBRATION_PASSWORD);
+        long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        int strength = minStrength;
+        while (strength < maxStrength && elapsedMillis * 2 <= targetMillis) {
+            elapsedMillis *= 2;
+            strength++;
+        }
+        log.info("BCrypt cost 보정 완료: strength={}, 예상 소요 {}ms (목표 {}ms)", strength, elapsedMillis, targetMillis);
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /** 현재 대기열 길이 **/
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /** 빈 종료 시 호출 (@Bean 의 destroy 메서드 추론) **/
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException(true);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingRejectedException(false);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException(false);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+}
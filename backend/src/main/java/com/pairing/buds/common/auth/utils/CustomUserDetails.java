@@ -1,6 +1,7 @@
 package com.pairing.buds.common.auth.utils;
 
 import com.pairing.buds.domain.admin.entity.Admin;
+import com.pairing.buds.domain.user.dto.response.LoginCredentialsDto;
 import com.pairing.buds.domain.user.entity.User;
 import lombok.Data;
 import org.springframework.security.core.GrantedAuthority;
@@ -47,6 +48,32 @@ public class CustomUserDetails implements UserDetails {
         System.out.println(admin.getRole().name());
     }
 
+    // 로그인 자격 증명 프로젝션 기반 생성자
+    public CustomUserDetails(LoginCredentialsDto credentials) {
+        this.id         = credentials.getId();
+        this.role       = credentials.getPrincipalType();
+        this.username   = credentials.getEmail();
+        this.password   = credentials.getPassword();
+        this.isActive   = credentials.getActive() != null && credentials.getActive().intValue() == 1;
+        this.authorities = List.of(
+                new SimpleGrantedAuthority(credentials.getRole())
+        );
+    }
+
+    private CustomUserDetails(CustomUserDetails source, String password) {
+        this.id         = source.id;
+        this.role       = source.role;
+        this.username   = source.username;
+        this.password   = password;
+        this.isActive   = source.isActive;
+        this.authorities = source.authorities;
+    }
+
+    /** 비밀번호 해시만 바꾼 사본 (재해시 후 반환용) **/
+    public CustomUserDetails withPassword(String password) {
+        return new CustomUserDetails(this, password);
+    }
+
     /** 사용자가 하나의 권한만 가지는 경우 **/
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -2,6 +2,7 @@ package com.pairing.buds.common.auth.utils;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -39,14 +40,27 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration-time}")
     private long refreshExpiration;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
     /** HMAC SHA 알고리즘 사용을 위한 전역 SecretKey 변수 **/
     private SecretKey secretKeyInstance;
 
+    /** 스레드 안전한 파서, 요청마다 새로 빌드하지 않고 재사용 **/
+    private JwtParser jwtParser;
+
+    /** 서명 검증을 마친 엑세스 토큰 캐시 **/
+    private VerifiedTokenCache verifiedTokenCache;
+
     /** secretKey를 한 번만 바이트 배열로 변환하여 SecretKey 생성 **/
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.secretKeyInstance = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKeyInstance)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
     }
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
@@ -112,50 +126,57 @@ public class JwtTokenProvider {
         return null;
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명 + 만료 + 포맷 검증 후 클레임 반환
+     * 만료 시 ExpiredJwtException, 그 외 검증 실패 시 JwtException 발생
+     */
+    public VerifiedToken parse(String token) {
+        return VerifiedToken.from(jwtParser.parseSignedClaims(token).getPayload());
+    }
+
+    /**
+     * 엑세스 토큰 검증 (캐시 사용)
+     * 이미 검증된 토큰이면 서명 검증을 생략하고, 처음 보는 토큰만 파싱 후 캐시에 저장
+     */
+    public VerifiedToken verifyAccessToken(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) return cached;
+
+        VerifiedToken verified = parse(token);
+        verifiedTokenCache.put(token, verified);
+        return verified;
+    }
+
     /** 토큰에서 ver(claim) 꺼내기 **/
     public long getVersionFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKeyInstance)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("ver", Long.class);
+        return parse(token).getVersionOrZero();
     }
 
     /** 토큰에서 role 추출 */
     public String getRoleFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKeyInstance)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return parse(token).getRole();
     }
 
     /** jwt 토큰에서 userId 추출 **/
     public Integer getUserId(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKeyInstance)
-                .build()
-                .parseSignedClaims(token) // JWT의 서명 검증 진행, JWT의 페이로드에서 Claims 추출
-                .getPayload()
-                .get("userId", Integer.class);
+        return parse(token).getUserId();
     }
 
     public boolean validateToken(String token) {
+        return parseOrNull(token) != null;
+    }
+
+    /** 검증 실패 시 예외 대신 null 반환 **/
+    public VerifiedToken parseOrNull(String token) {
         try {
             // 서명 검증 + 만료 검증 + 포맷 검증
-            Jwts.parser()
-                    .verifyWith(secretKeyInstance)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parse(token);
         } catch (ExpiredJwtException e) {
             logger.info("만료된 JWT: {}", e.getMessage());
-            return false;
+            return null;
         } catch (JwtException | IllegalArgumentException e) {
             logger.warn("JWT 검증 실패: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
@@ -0,0 +1,80 @@
+package com.pairing.buds.common.auth.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 엑세스 토큰 버전(ver:) 캐시
+ * - 다른 노드의 버전 변경은 Redis pub/sub 메시지로 즉시 제거
+ * - 메시지 유실에 대비해 짧은 TTL 이후 Redis 재조회
+ * - 버전은 단조 증가하므로 늦게 도착한 오래된 값이 새 값을 덮어쓰지 않도록 함
+ */
+public class TokenVersionCache {
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Integer, Entry> cache = new ConcurrentHashMap<>();
+
+    public TokenVersionCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /** 캐시된 버전, 없거나 TTL 지났으면 null **/
+    public Long get(Integer userId) {
+        if (ttlMillis <= 0) return null;
+        Entry entry = cache.get(userId);
+        if (entry == null) return null;
+        if (System.currentTimeMillis() >= entry.expiresAt) {
+            cache.remove(userId, entry);
+            return null;
+        }
+        return entry.version;
+    }
+
+    /** 버전 저장, 이미 더 큰 버전이 있으면 유지 **/
+    public void put(Integer userId, long version) {
+        if (ttlMillis <= 0) return;
+        if (cache.size() >= maxSize) {
+            evictExpired();
+        }
+        Entry fresh = new Entry(version, System.currentTimeMillis() + ttlMillis);
+        cache.merge(userId, fresh, (old, neo) -> neo.version >= old.version ? neo : old);
+    }
+
+    /** 다른 노드에서 알려온 버전과 다르면 제거 **/
+    public void invalidate(Integer userId, Long version) {
+        if (version == null) {
+            cache.remove(userId);
+            return;
+        }
+        cache.computeIfPresent(userId, (id, entry) -> entry.version == version ? entry : null);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(e -> now >= e.expiresAt);
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final long expiresAt;
+
+        private Entry(long version, long expiresAt) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.pairing.buds.common.auth.utils;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명/만료 검증이 끝난 JWT의 클레임 묶음
+ * 요청당 한 번만 파싱하고, 이후에는 이 객체에서 값을 꺼내 사용
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final Integer userId;
+    private final String role;
+    private final Long version;      // 리프레시 토큰에는 없음(null)
+    private final String jti;
+    private final long expiresAtMillis;
+
+    public static VerifiedToken from(Claims claims) {
+        Date exp = claims.getExpiration();
+        return new VerifiedToken(
+                claims.get("userId", Integer.class),
+                claims.get("role", String.class),
+                claims.get("ver", Long.class),
+                claims.getId(),
+                exp == null ? Long.MAX_VALUE : exp.getTime()
+        );
+    }
+
+    /** 엑세스 토큰 버전, 버전 클레임이 없으면 0 **/
+    public long getVersionOrZero() {
+        return version == null ? 0L : version;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.pairing.buds.common.auth.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이미 서명 검증을 마친 엑세스 토큰 캐시
+ * - 키 : 토큰 원문의 SHA-256 다이제스트 (원문 토큰은 메모리에 남기지 않음)
+ * - 값 : 검증된 클레임, 토큰 만료 시각이 지나면 조회 시 제거
+ * - 최대 개수를 넘으면 만료 항목부터 정리하고, 그래도 넘치면 임의 항목 제거
+ */
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /** 캐시 조회, 없거나 만료되었으면 null **/
+    public VerifiedToken get(String token) {
+        if (maxSize <= 0) return null;
+        String key = TokenDigests.sha256(token);
+        VerifiedToken verified = cache.get(key);
+        if (verified == null) return null;
+        if (verified.isExpired(System.currentTimeMillis())) {
+            cache.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    /** 검증 완료된 토큰 저장 **/
+    public void put(String token, VerifiedToken verified) {
+        if (maxSize <= 0) return;
+        if (cache.size() >= maxSize) {
+            evict();
+        }
+        cache.put(TokenDigests.sha256(token), verified);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(v -> v.isExpired(now));
+
+        // 만료 항목 정리 후에도 가득 차 있으면 1/4 정도를 비워 매 요청마다 정리하지 않도록 함
+        int toRemove = cache.size() - (maxSize * 3 / 4);
+        Iterator<String> it = cache.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+}
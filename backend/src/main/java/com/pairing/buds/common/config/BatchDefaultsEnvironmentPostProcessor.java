@@ -0,0 +1,35 @@
+package com.pairing.buds.common.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * 외부 설정 파일에 값이 없을 때의 배치 기본값 (META-INF/spring.factories 로 등록)
+ * - 배치 잡은 스케줄러에서만 실행 (기동 시 자동 실행하지 않음)
+ * - 메타데이터 테이블 자동 생성
+ * main() 뿐 아니라 @SpringBootTest 컨텍스트에도 적용되도록 환경 후처리기로 넣고, 우선순위는 가장 낮게 둠
+ */
+public class BatchDefaultsEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    private static final String SOURCE_NAME = "budsBatchDefaults";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getPropertySources().contains(SOURCE_NAME)) return;
+        environment.getPropertySources().addLast(new MapPropertySource(SOURCE_NAME, Map.of(
+                "spring.batch.job.enabled", "false",
+                "spring.batch.jdbc.initialize-schema", "always"
+        )));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+}
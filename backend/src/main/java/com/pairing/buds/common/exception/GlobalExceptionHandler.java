@@ -40,6 +40,17 @@ public class GlobalExceptionHandler {
                 .body(body);
     }
 
+    // 비밀번호 해시 스레드풀 포화 (회원가입, 비밀번호 재설정, 탈퇴 등)
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ResponseDto> handlePasswordHashingRejected(PasswordHashingRejectedException ex) {
+        StatusCode code = ex.isQueueFull() ? StatusCode.TOO_MANY_REQUESTS : StatusCode.SERVICE_UNAVAILABLE;
+        ResponseDto body = new ResponseDto(code, Message.SERVER_BUSY.getText());
+        return ResponseEntity
+                .status(code.getHttpStatus())
+                .header("Retry-After", "1")
+                .body(body);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ResponseDto> handleOther(Exception ex) {
         ResponseDto body = new ResponseDto(
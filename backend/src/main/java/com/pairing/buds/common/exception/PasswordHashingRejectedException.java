@@ -0,0 +1,22 @@
+package com.pairing.buds.common.exception;
+
+import lombok.Getter;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 전용 스레드풀이 포화 상태라 요청을 처리하지 못한 경우
+ * - queueFull = true  : 대기열이 가득 차 즉시 거절 (429)
+ * - queueFull = false : 대기 시간 초과 (503)
+ * InternalAuthenticationServiceException 을 상속해 ProviderManager가 다른 Provider로 재시도하지 않도록 함
+ */
+@Getter
+public class PasswordHashingRejectedException extends InternalAuthenticationServiceException {
+
+    private final boolean queueFull;
+
+    public PasswordHashingRejectedException(boolean queueFull) {
+        super(queueFull ? "비밀번호 검증 대기열이 가득 찼습니다." : "비밀번호 검증 대기 시간이 초과되었습니다.");
+        this.queueFull = queueFull;
+    }
+
+}
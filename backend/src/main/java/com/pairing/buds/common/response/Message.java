@@ -40,6 +40,9 @@ public enum Message {
     EMAIL_NOT_FOUND("존재하지 않는 이메일 입니다."),
     LETTER_HISTORY_NOT_FOUND("편지 내역이 없습니다."),
     LAST_LETTER_IS_NOT_ANSWERED_YET("마지막 편지에 대한 답장이 아직 오지 않았습니다."),
+    SERVER_BUSY("요청이 많아 잠시 후 다시 시도해주세요."),
+    LETTER_OUTBOX_NOT_FOUND("해당 발송 요청을 찾을 수 없습니다."),
+    SESSION_REVOKE_JOB_NOT_FOUND("해당 세션 종료 작업을 찾을 수 없습니다."),
 
     OK("성공"),
     CREATED("성공")
@@ -7,12 +7,15 @@ public enum StatusCode {
 
     OK(200),
     CREATED(201),
+    ACCEPTED(202), // 접수 완료, 처리는 비동기
     BAD_REQUEST(400),
     UNAUTHORIZED(401), // Access Token 이 만료 된 상태
     FORBIDDEN(403), // 권한 없는 자원에 접근 한 상태
     NOT_FOUND(404),
     CONFLICT(409), // 중복된 데이터
-    INTERNAL_SERVER_ERROR(500);
+    TOO_MANY_REQUESTS(429), // 처리 대기열이 가득 찬 상태
+    INTERNAL_SERVER_ERROR(500),
+    SERVICE_UNAVAILABLE(503); // 일시적으로 처리 불가
 
     private final int httpStatus;
 
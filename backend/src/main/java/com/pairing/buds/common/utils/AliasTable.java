@@ -0,0 +1,73 @@
+package com.pairing.buds.common.utils;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중치 비례 임의 추출 (Vose 의 alias method)
+ * - 구성 O(n), 추출 O(1) : 칸 하나를 균등하게 고른 뒤 prob 확률로 그 칸, 아니면 alias 칸
+ * - 가중치가 0 이하인 항목은 뽑히지 않음
+ * 구성 후에는 읽기만 하므로 여러 스레드에서 같이 사용 가능
+ */
+public final class AliasTable {
+
+    private final double[] prob;
+    private final int[] alias;
+
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) throw new IllegalArgumentException("가중치가 비어 있습니다.");
+        double total = 0;
+        int positive = -1;
+        for (int i = 0; i < n; i++) {
+            if (weights[i] > 0) {
+                total += weights[i];
+                positive = i;
+            }
+        }
+        if (total <= 0) throw new IllegalArgumentException("양수 가중치가 없습니다.");
+
+        prob = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        // small / large 를 한 배열의 양 끝에서 스택으로 사용
+        int[] work = new int[n];
+        int small = 0;
+        int large = n;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] > 0 ? weights[i] * n / total : 0;
+            if (scaled[i] < 1) work[small++] = i;
+            else work[--large] = i;
+        }
+        while (small > 0 && large < n) {
+            int less = work[--small];
+            int more = work[large++];
+            prob[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) work[small++] = more;
+            else work[--large] = more;
+        }
+        // 부동소수점 오차로 남은 칸은 자기 자신 확률 1
+        while (large < n) {
+            int i = work[large++];
+            prob[i] = 1;
+            alias[i] = i;
+        }
+        while (small > 0) {
+            int i = work[--small];
+            prob[i] = weights[i] > 0 ? 1 : 0;
+            alias[i] = weights[i] > 0 ? i : positive;
+        }
+    }
+
+    /** 항목 인덱스 하나 추출 **/
+    public int next(RandomGenerator random) {
+        int i = random.nextInt(prob.length);
+        return random.nextDouble() < prob[i] ? i : alias[i];
+    }
+
+    public int size() {
+        return prob.length;
+    }
+
+}
@@ -1,17 +1,41 @@
 package com.pairing.buds.common.utils;
 
+import lombok.extern.slf4j.Slf4j;
 import org.ahocorasick.trie.Emit;
 import org.ahocorasick.trie.Trie;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * 욕설 탐지 (Aho-Corasick)
+ * - 사전 전체를 오토마톤 하나로 미리 컴파일해 본문을 한 번만 선형 스캔
+ * - 사전과 본문 모두 HangulNormalizer 로 정규화한 뒤 비교 (띄어쓰기/기호/낱자모/반복 문자 우회 대응)
+ * - 두 글자 이하 단어는 띄어쓰기를 지우면 평범한 문장과 겹치므로 부분 일치 대신 어절(공백 기준) 전체가 같을 때만 탐지
+ *   그중 일상어와 같은 단어(보지, 이년, 사발 …)와 운영자 사칭 단어(공지사항 …)는 본문 전체가 같을 때만 탐지
+ * - 숫자로 시작/끝나는 단어(18년, 십8)는 앞/뒤에 숫자가 붙어 있으면 제외 (2018년)
+ * - 사전 교체는 새 오토마톤을 만든 뒤 참조만 바꾸므로 스캔 중인 요청을 막지 않음
+ * 추가 사전 파일(moderation.bad-words.path, 한 줄에 한 단어)은 수정 시각이 바뀌면 다시 읽음
+ */
+@Slf4j
 @Component
 public class BadWordFilter {
 
-    /** 욕설 리스트 **/
-    private final String[] badWords = {
+    /** 기본 욕설 리스트 **/
+    private static final String[] DEFAULT_WORDS = {
             "ㅅㅂ", "씨발", "씨바", "개세끼", "18년", "18놈", "18새끼", "ㄱㅐㅅㅐㄲl", "ㄱㅐㅈㅏ", "가슴만져", "가슴빨아", "가슴빨어", "가슴조물락", "가슴주물럭", "가슴쪼물딱",
             "가슴쪼물락", "가슴핧아", "가슴핧어", "강간", "개가튼년", "개가튼뇬", "개같은년", "개걸레", "개고치", "개너미", "개넘", "개년", "개놈", "개늠", "개똥", "개떵", "개떡",
             "개라슥", "개보지", "개부달", "개부랄", "개불랄", "개붕알", "개새", "개세", "개쓰래기", "개쓰레기", "개씁년", "개씁블", "개씁자지", "개씨발", "개씨블", "개자식", "개자지",
@@ -51,9 +75,145 @@ public class BadWordFilter {
             "싸발세끼", "싸발놈", "싸발년", "씹련"
     };
 
+    /** 본문 전체가 같을 때만 탐지할 단어 (일상어와 같은 짧은 단어, 운영자 사칭 단어) **/
+    private static final Set<String> EXACT_ONLY_WORDS = Set.of(
+            "강간", "개똥", "개떡", "개세", "게이", "고환", "공지", "귀두", "노옴", "보지", "사발", "상년", "성교", "세끼",
+            "수셔", "쑤셔", "애무", "애미", "애비", "애자", "에미", "에비", "영자", "오랄", "유두", "유방", "육갑", "이년",
+            "자지", "저년", "점물", "젓물", "젓밥", "쪼다", "창남", "허접", "호로", "호모", "후장",
+            "공지사항", "운영자", "마스터"
+    );
+    /** 이 길이 이하 단어는 부분 일치 대신 어절 단위로 탐지 **/
+    private static final int SHORT_WORD_LENGTH = 2;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TOKEN = Pattern.compile("\\S+");
+
+    private final Path dictionaryPath;
+    private volatile Dictionary dictionary;
+    private volatile long dictionaryModifiedAt = -1L;
+
+    public BadWordFilter(@Value("${moderation.bad-words.path:}") String dictionaryPath) {
+        this.dictionaryPath = dictionaryPath == null || dictionaryPath.isBlank() ? null : Path.of(dictionaryPath);
+        reload(List.of());
+        reloadIfChanged();
+    }
+
+    /** 본문에 욕설이 포함되어 있는지 여부 **/
     public boolean isBadWord(String content){
-        return Arrays.stream(badWords).parallel().anyMatch(badWord ->
-                badWord.equalsIgnoreCase(content)
-        );
+        if (content == null || content.isEmpty()) return false;
+        Dictionary current = dictionary;
+        String normalized = HangulNormalizer.normalize(content).text();
+        if (current.exactWords.contains(normalized) || current.tokenWords.contains(normalized)) return true;
+        for (Emit emit : current.trie.parseText(normalized)) {
+            if (isWordBoundary(normalized, emit)) return true;
+        }
+        if (current.tokenWords.isEmpty()) return false;
+        for (String token : WHITESPACE.split(content)) {
+            if (current.tokenWords.contains(HangulNormalizer.normalize(token).text())) return true;
+        }
+        return false;
+    }
+
+    /** 본문에서 찾은 욕설 목록 (원문 기준 위치) **/
+    public List<BadWordMatch> findBadWords(String content){
+        if (content == null || content.isEmpty()) return List.of();
+        Dictionary current = dictionary;
+        HangulNormalizer.Normalized normalized = HangulNormalizer.normalize(content);
+        if (current.exactWords.contains(normalized.text()) || current.tokenWords.contains(normalized.text())) {
+            return List.of(new BadWordMatch(0, content.length(), normalized.text(), content));
+        }
+        Collection<Emit> emits = current.trie.parseText(normalized.text());
+        List<BadWordMatch> matches = new ArrayList<>(emits.size());
+        for (Emit emit : emits) {
+            if (!isWordBoundary(normalized.text(), emit)) continue;
+            int start = normalized.start(emit.getStart());
+            int end = normalized.end(emit.getEnd()); // Emit 의 end 는 마지막 문자 위치(포함)
+            matches.add(new BadWordMatch(start, end, emit.getKeyword(), content.substring(start, end)));
+        }
+        Matcher token = TOKEN.matcher(content);
+        while (token.find()) {
+            String word = HangulNormalizer.normalize(token.group()).text();
+            if (current.tokenWords.contains(word)) {
+                matches.add(new BadWordMatch(token.start(), token.end(), word, token.group()));
+            }
+        }
+        return matches;
+    }
+
+    /** 기본 사전 + 추가 단어로 오토마톤 교체 **/
+    public void reload(Collection<String> extraWords) {
+        Set<String> keywords = new LinkedHashSet<>();
+        Set<String> tokenWords = new HashSet<>();
+        Set<String> exactWords = new HashSet<>();
+        for (String word : DEFAULT_WORDS) {
+            addKeyword(keywords, tokenWords, exactWords, word);
+        }
+        for (String word : extraWords) {
+            addKeyword(keywords, tokenWords, exactWords, word);
+        }
+        Trie trie = Trie.builder()
+                .addKeywords(keywords)
+                .build();
+        this.dictionary = new Dictionary(trie, tokenWords, exactWords, keywords.size() + tokenWords.size() + exactWords.size());
+    }
+
+    public int wordCount() {
+        return dictionary.size;
     }
+
+    /** 추가 사전 파일이 바뀌었으면 다시 적재 **/
+    @Scheduled(fixedDelayString = "${moderation.bad-words.reload-millis:60000}")
+    public void reloadIfChanged() {
+        if (dictionaryPath == null) return;
+        try {
+            if (!Files.isRegularFile(dictionaryPath)) return;
+            long modifiedAt = Files.getLastModifiedTime(dictionaryPath).toMillis();
+            if (modifiedAt == dictionaryModifiedAt) return;
+            List<String> lines = Files.readAllLines(dictionaryPath, StandardCharsets.UTF_8);
+            reload(lines);
+            dictionaryModifiedAt = modifiedAt;
+            log.info("욕설 사전 적재 완료: {}개 (추가 {}줄)", wordCount(), lines.size());
+        } catch (IOException e) {
+            log.warn("욕설 사전 파일을 읽을 수 없습니다: {}", dictionaryPath, e);
+        }
+    }
+
+    // 숫자가 이어진 경우(2018년의 18년) 제외, Emit 의 end 는 마지막 문자 위치(포함)
+    private static boolean isWordBoundary(String text, Emit emit) {
+        String keyword = emit.getKeyword();
+        int before = emit.getStart() - 1;
+        int after = emit.getEnd() + 1;
+        if (Character.isDigit(keyword.charAt(0)) && before >= 0 && Character.isDigit(text.charAt(before))) return false;
+        return !(Character.isDigit(keyword.charAt(keyword.length() - 1)) && after < text.length() && Character.isDigit(text.charAt(after)));
+    }
+
+    // 한 글자 단어(똥, ㅆㅣ → 씨 등)와 일상어는 본문 전체가 같을 때만, 두 글자 단어는 어절 단위로 탐지
+    private static void addKeyword(Set<String> keywords, Set<String> tokenWords, Set<String> exactWords, String word) {
+        if (word == null) return;
+        String trimmed = word.strip();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) return;
+        String normalized = HangulNormalizer.normalize(trimmed).text();
+        if (normalized.isEmpty()) return;
+        if (normalized.length() < 2 || EXACT_ONLY_WORDS.contains(normalized)) {
+            exactWords.add(normalized);
+        } else if (normalized.length() <= SHORT_WORD_LENGTH) {
+            tokenWords.add(normalized);
+        } else {
+            keywords.add(normalized);
+        }
+    }
+
+    private static final class Dictionary {
+        private final Trie trie;
+        private final Set<String> tokenWords;
+        private final Set<String> exactWords;
+        private final int size;
+
+        private Dictionary(Trie trie, Set<String> tokenWords, Set<String> exactWords, int size) {
+            this.trie = trie;
+            this.tokenWords = tokenWords;
+            this.exactWords = exactWords;
+            this.size = size;
+        }
+    }
+
 }
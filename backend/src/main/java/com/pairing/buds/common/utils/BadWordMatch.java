@@ -0,0 +1,16 @@
+package com.pairing.buds.common.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 욕설 탐지 결과 (원문 [start, end) 구간) **/
+@Getter
+@AllArgsConstructor
+public class BadWordMatch {
+
+    private final int start;
+    private final int end;
+    private final String keyword;   // 정규화된 사전 단어
+    private final String text;      // 원문에서 일치한 부분
+
+}
@@ -0,0 +1,264 @@
+package com.pairing.buds.common.utils;
+
+import java.util.Arrays;
+
+/**
+ * 양의 int 집합용 압축 비트맵 (Roaring 방식 단순화)
+ * - 상위 16비트마다 컨테이너 하나, 하위 16비트를 컨테이너에 저장
+ * - 원소가 4096개 이하면 정렬된 char 배열, 넘으면 8KB 비트셋으로 전환
+ * - 유저 id처럼 촘촘한 값은 비트셋, 드문 값은 배열로 저장되어 메모리 사용이 원소 수에 비례
+ * 스레드 안전하지 않으므로 외부에서 동기화 필요
+ */
+public class CompressedBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    /** 추가, 새로 추가되었으면 true **/
+    public boolean add(int value) {
+        char key = highBits(value);
+        int idx = indexOf(key);
+        if (idx < 0) {
+            idx = -idx - 1;
+            insertContainer(idx, key, new ArrayContainer());
+        }
+        Container container = containers[idx];
+        int before = container.cardinality();
+        containers[idx] = container.add(lowBits(value));
+        return containers[idx].cardinality() > before;
+    }
+
+    /** 제거, 실제로 제거되었으면 true **/
+    public boolean remove(int value) {
+        int idx = indexOf(highBits(value));
+        if (idx < 0) return false;
+        Container container = containers[idx];
+        int before = container.cardinality();
+        Container updated = container.remove(lowBits(value));
+        if (updated.cardinality() == 0) {
+            removeContainer(idx);
+        } else {
+            containers[idx] = updated;
+        }
+        return updated.cardinality() < before;
+    }
+
+    public boolean contains(int value) {
+        int idx = indexOf(highBits(value));
+        return idx >= 0 && containers[idx].contains(lowBits(value));
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** 오름차순 rank번째(0부터) 원소 **/
+    public int select(int rank) {
+        if (rank < 0) throw new IndexOutOfBoundsException("rank: " + rank);
+        int remaining = rank;
+        for (int i = 0; i < size; i++) {
+            int card = containers[i].cardinality();
+            if (remaining < card) {
+                return (keys[i] << 16) | containers[i].select(remaining);
+            }
+            remaining -= card;
+        }
+        throw new IndexOutOfBoundsException("rank: " + rank);
+    }
+
+    /** 대략적인 힙 사용량 (바이트) **/
+    public long sizeInBytes() {
+        long bytes = 16L + keys.length * 2L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private static char highBits(int value) {
+        if (value < 0) throw new IllegalArgumentException("음수는 저장할 수 없습니다: " + value);
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int idx, char key, Container container) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, idx, keys, idx + 1, size - idx);
+        System.arraycopy(containers, idx, containers, idx + 1, size - idx);
+        keys[idx] = key;
+        containers[idx] = container;
+        size++;
+    }
+
+    private void removeContainer(int idx) {
+        System.arraycopy(keys, idx + 1, keys, idx, size - idx - 1);
+        System.arraycopy(containers, idx + 1, containers, idx, size - idx - 1);
+        containers[--size] = null;
+    }
+
+    private interface Container {
+        Container add(char value);
+        Container remove(char value);
+        boolean contains(char value);
+        int cardinality();
+        char select(int rank);
+        long sizeInBytes();
+    }
+
+    /** 정렬된 배열 컨테이너 (원소 4096개 이하) **/
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int card;
+
+        @Override
+        public Container add(char value) {
+            int idx = Arrays.binarySearch(values, 0, card, value);
+            if (idx >= 0) return this;
+            if (card >= ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            idx = -idx - 1;
+            if (card == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, card * 2));
+            }
+            System.arraycopy(values, idx, values, idx + 1, card - idx);
+            values[idx] = value;
+            card++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int idx = Arrays.binarySearch(values, 0, card, value);
+            if (idx < 0) return this;
+            System.arraycopy(values, idx + 1, values, idx, card - idx - 1);
+            card--;
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, card, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return card;
+        }
+
+        @Override
+        public char select(int rank) {
+            return values[rank];
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 24L + values.length * 2L;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < card; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /** 비트셋 컨테이너 (65536비트 = 8KB) **/
+    private static final class BitmapContainer implements Container {
+        private final long[] words = new long[1024];
+        private int card;
+
+        @Override
+        public Container add(char value) {
+            long mask = 1L << value;
+            int idx = value >>> 6;
+            if ((words[idx] & mask) == 0) {
+                words[idx] |= mask;
+                card++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long mask = 1L << value;
+            int idx = value >>> 6;
+            if ((words[idx] & mask) != 0) {
+                words[idx] &= ~mask;
+                card--;
+            }
+            // 충분히 줄어들면 배열 컨테이너로 되돌림 (경계에서 반복 전환되지 않도록 여유를 둠)
+            return card <= ARRAY_MAX / 2 ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return card;
+        }
+
+        @Override
+        public char select(int rank) {
+            int remaining = rank;
+            for (int i = 0; i < words.length; i++) {
+                int bits = Long.bitCount(words[i]);
+                if (remaining < bits) {
+                    long word = words[i];
+                    for (int r = 0; r < remaining; r++) {
+                        word &= word - 1;
+                    }
+                    return (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                }
+                remaining -= bits;
+            }
+            throw new IndexOutOfBoundsException("rank: " + rank);
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 24L + words.length * 8L;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(4, card)];
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.values[array.card++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.pairing.buds.common.utils;
+
+/**
+ * 욕설 탐지 / 편지 검색용 텍스트 정규화
+ * - 전각 영숫자 → 반각, 영문 소문자화
+ * - 공백/기호/제로폭 문자 제거 (띄어쓰기, 특수문자 끼워넣기 우회 대응)
+ * - 낱자모 조합 (ㅅㅣㅂㅏㄹ → 시발), 자음만으로 된 축약(ㅅㅂ)은 그대로 둠
+ * - 같은 문자 반복 축약 (시이이이발 → 시이발)
+ * 정규화된 각 문자는 원문 구간을 기억하므로 탐지 결과를 원문 위치로 되돌릴 수 있음
+ */
+public final class HangulNormalizer {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char COMPAT_JAMO_FIRST = 0x3131;   // ㄱ
+    private static final char COMPAT_VOWEL_FIRST = 0x314F;  // ㅏ
+    private static final char COMPAT_VOWEL_LAST = 0x3163;   // ㅣ
+
+    /** 호환 자모(ㄱ~ㅎ, 0x3131 기준) → 초성 인덱스 (-1 : 초성 불가) **/
+    private static final int[] CHOSEONG = new int[30];
+    /** 호환 자모(ㄱ~ㅎ, 0x3131 기준) → 종성 인덱스 (0 : 종성 불가) **/
+    private static final int[] JONGSEONG = new int[30];
+
+    static {
+        String choseong = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+        String jongseong = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+        java.util.Arrays.fill(CHOSEONG, -1);
+        for (int i = 0; i < choseong.length(); i++) {
+            CHOSEONG[choseong.charAt(i) - COMPAT_JAMO_FIRST] = i;
+        }
+        for (int i = 1; i < jongseong.length(); i++) {
+            JONGSEONG[jongseong.charAt(i) - COMPAT_JAMO_FIRST] = i;
+        }
+    }
+
+    private HangulNormalizer() {
+    }
+
+    public static Normalized normalize(String text) {
+        int length = text.length();
+        char[] chars = new char[length];
+        int[] starts = new int[length];
+        int[] ends = new int[length];
+
+        // 1. 문자 단위 치환 / 제거
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0xFF01 && c <= 0xFF5E) {
+                c = (char) (c - 0xFEE0); // 전각 → 반각
+            }
+            if (c < 0x80) {
+                if (c >= 'A' && c <= 'Z') c = (char) (c + ('a' - 'A'));
+            } else if (c >= 0x1100 && c <= 0x11FF || c >= 0x3164 && c <= 0x318E) {
+                continue; // 옛한글/조합용 자모, 한글 채움 문자
+            }
+            if (!Character.isLetterOrDigit(c)) continue;
+            chars[n] = c;
+            starts[n] = i;
+            ends[n] = i + 1;
+            n++;
+        }
+
+        // 2. 낱자모 조합 + 3. 반복 문자 축약
+        int m = 0;
+        for (int i = 0; i < n; ) {
+            char c = chars[i];
+            int start = starts[i];
+            int end = ends[i];
+            i++;
+
+            if (isConsonant(c) && i < n && isVowel(chars[i]) && CHOSEONG[c - COMPAT_JAMO_FIRST] >= 0) {
+                int cho = CHOSEONG[c - COMPAT_JAMO_FIRST];
+                int jung = chars[i] - COMPAT_VOWEL_FIRST;
+                end = ends[i];
+                i++;
+                int jong = 0;
+                // 뒤에 모음이 오지 않는 자음만 받침으로 사용
+                if (i < n && isConsonant(chars[i]) && JONGSEONG[chars[i] - COMPAT_JAMO_FIRST] > 0
+                        && !(i + 1 < n && isVowel(chars[i + 1]))) {
+                    jong = JONGSEONG[chars[i] - COMPAT_JAMO_FIRST];
+                    end = ends[i];
+                    i++;
+                }
+                c = (char) (SYLLABLE_BASE + (cho * 21 + jung) * 28 + jong);
+            }
+
+            if (m > 0 && chars[m - 1] == c) {
+                ends[m - 1] = end;
+                continue;
+            }
+            chars[m] = c;
+            starts[m] = start;
+            ends[m] = end;
+            m++;
+        }
+
+        return new Normalized(new String(chars, 0, m), starts, ends);
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= COMPAT_JAMO_FIRST && c < COMPAT_VOWEL_FIRST;
+    }
+
+    private static boolean isVowel(char c) {
+        return c >= COMPAT_VOWEL_FIRST && c <= COMPAT_VOWEL_LAST;
+    }
+
+    /** 정규화 결과 (정규화 문자열의 i번째 문자 = 원문 [start(i), end(i)) ) **/
+    public static final class Normalized {
+        private final String text;
+        private final int[] starts;
+        private final int[] ends;
+
+        private Normalized(String text, int[] starts, int[] ends) {
+            this.text = text;
+            this.starts = starts;
+            this.ends = ends;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        public int start(int index) {
+            return starts[index];
+        }
+
+        public int end(int index) {
+            return ends[index];
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.pairing.buds.common.utils;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 정수 집합용 MinHash 서명 / LSH 밴드 키
+ * - i번째 해시 h_i(x) = (a_i * x + b_i) mod p, 서명의 i번째 값은 집합 원소 중 h_i 최솟값
+ * - 두 집합의 서명이 같은 자리에서 일치할 확률 = Jaccard 유사도
+ * - 서명을 rows개씩 bands개로 나눈 밴드별 해시를 버킷 키로 사용 (유사할수록 한 밴드 이상 같은 버킷에 들어갈 확률이 높음)
+ * 같은 seed면 노드/실행과 무관하게 같은 서명
+ */
+public final class MinHash {
+
+    private static final long PRIME = 2_147_483_647L; // 2^31 - 1
+
+    private final int bands;
+    private final int rows;
+    private final long[] a;
+    private final long[] b;
+
+    public MinHash(int bands, int rows, long seed) {
+        if (bands <= 0 || rows <= 0) throw new IllegalArgumentException("bands, rows 는 1 이상이어야 합니다.");
+        this.bands = bands;
+        this.rows = rows;
+        int hashes = bands * rows;
+        this.a = new long[hashes];
+        this.b = new long[hashes];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < hashes; i++) {
+            a[i] = 1 + random.nextLong(PRIME - 1);
+            b[i] = random.nextLong(PRIME);
+        }
+    }
+
+    /** 빈 집합이면 모든 값이 Integer.MAX_VALUE **/
+    public int[] signature(int[] set) {
+        int[] signature = new int[a.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int value : set) {
+            long x = value & 0xFFFFFFFFL;
+            for (int i = 0; i < a.length; i++) {
+                int h = (int) ((a[i] * x + b[i]) % PRIME);
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    /** 밴드별 버킷 키 (밴드 번호를 섞어 서로 다른 밴드의 키가 겹치지 않도록 함) **/
+    public long[] bandKeys(int[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long h = 0x9E3779B97F4A7C15L * (band + 1);
+            for (int r = 0; r < rows; r++) {
+                h = mix(h ^ signature[band * rows + r]);
+            }
+            keys[band] = h;
+        }
+        return keys;
+    }
+
+    public int bands() {
+        return bands;
+    }
+
+    /** 정렬된 두 집합의 Jaccard 유사도 (둘 다 비었으면 0) **/
+    public static double jaccard(int[] sortedA, int[] sortedB) {
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < sortedA.length && j < sortedB.length) {
+            if (sortedA[i] == sortedB[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (sortedA[i] < sortedB[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = sortedA.length + sortedB.length - common;
+        return union == 0 ? 0 : (double) common / union;
+    }
+
+    // splitmix64 마무리 단계
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
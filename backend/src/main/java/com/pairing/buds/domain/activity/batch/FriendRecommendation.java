@@ -0,0 +1,14 @@
+package com.pairing.buds.domain.activity.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 친구 추천 배치 처리 결과 (유저 1명의 추천 목록) **/
+@Getter
+@AllArgsConstructor
+public class FriendRecommendation {
+
+    private final int userId;
+    private final int[] recommendedIds;
+
+}
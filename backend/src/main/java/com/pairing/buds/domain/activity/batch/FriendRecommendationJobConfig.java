@@ -0,0 +1,158 @@
+package com.pairing.buds.domain.activity.batch;
+
+import com.pairing.buds.common.utils.MinHash;
+import com.pairing.buds.domain.activity.service.FriendRecommendationStore;
+import com.pairing.buds.domain.activity.service.FriendRecommender;
+import com.pairing.buds.domain.user.dto.response.UserTagIdDto;
+import com.pairing.buds.domain.user.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 태그 유사도 기반 추천 친구 사전 계산 잡
+ * 1. 활성 유저의 태그를 user_id 순으로 읽어 TagProfileModel 에 적재 후 MinHash/LSH 로 유사 프로필 계산
+ * 2. 유저마다 상위 TOP_K 명을 계산해 FriendRecommendationStore(Redis)에 chunk 단위 저장
+ * 모델은 잡 실행 동안만 메모리에 있으므로 재시작 시 1단계부터 다시 실행 (저장은 덮어쓰기라 중복 실행해도 무방)
+ */
+@Slf4j
+@Configuration
+public class FriendRecommendationJobConfig {
+
+    public static final String JOB_NAME = "friendRecommendationJob";
+    public static final String PARAM_DATE = "date";
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final int MINHASH_BANDS = 16;
+    private static final int MINHASH_ROWS = 4;
+    private static final long MINHASH_SEED = 0x5EED_B0D5L;
+    private static final int MAX_SIMILAR_PROFILES = 64;
+
+    @Value("${friend-recommendation.chunk-size:1000}")
+    private int chunkSize;
+
+    @Bean
+    public Job friendRecommendationJob(JobRepository jobRepository,
+                                       Step friendRecommendationLoadStep,
+                                       Step friendRecommendationStoreStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(friendRecommendationLoadStep)
+                .next(friendRecommendationStoreStep)
+                .build();
+    }
+
+    /** 잡 실행 단위로 공유되는 모델 **/
+    @Bean
+    @JobScope
+    public TagProfileModel tagProfileModel() {
+        return new TagProfileModel();
+    }
+
+    @Bean
+    public Step friendRecommendationLoadStep(JobRepository jobRepository,
+                                             PlatformTransactionManager transactionManager,
+                                             Tasklet friendRecommendationLoadTasklet) {
+        return new StepBuilder("friendRecommendationLoadStep", jobRepository)
+                .tasklet(friendRecommendationLoadTasklet, transactionManager)
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    /** 유저별 태그 적재 (페이지 끝에서 잘린 유저는 다음 페이지에서 처음부터 다시 읽음) **/
+    @Bean
+    public Tasklet friendRecommendationLoadTasklet(TagRepository tagRepository, TagProfileModel tagProfileModel) {
+        return (contribution, chunkContext) -> {
+            int afterUserId = 0;
+            while (true) {
+                List<UserTagIdDto> rows = tagRepository.findActiveUserTagsAfterUser(afterUserId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (rows.isEmpty()) break;
+                boolean lastPage = rows.size() < LOAD_BATCH_SIZE;
+                int end = rows.size();
+                if (!lastPage) {
+                    int lastUserId = rows.get(end - 1).getUserId();
+                    while (end > 0 && rows.get(end - 1).getUserId() == lastUserId) end--;
+                    // 한 유저의 태그가 페이지 하나를 넘는 경우는 없지만, 무한 반복 방지를 위해 통째로 사용
+                    if (end == 0) end = rows.size();
+                }
+
+                int start = 0;
+                while (start < end) {
+                    int userId = rows.get(start).getUserId();
+                    List<Integer> tags = new ArrayList<>();
+                    int i = start;
+                    while (i < end && rows.get(i).getUserId() == userId) {
+                        int tagTypeId = rows.get(i).getTagTypeId();
+                        if (tags.isEmpty() || tags.get(tags.size() - 1) != tagTypeId) tags.add(tagTypeId);
+                        i++;
+                    }
+                    tagProfileModel.add(userId, tags.stream().mapToInt(Integer::intValue).toArray());
+                    afterUserId = userId;
+                    start = i;
+                }
+                if (lastPage) break;
+            }
+
+            tagProfileModel.index(new MinHash(MINHASH_BANDS, MINHASH_ROWS, MINHASH_SEED), MAX_SIMILAR_PROFILES);
+            log.info("추천 친구 모델 적재: 유저 {}명, 태그 조합 {}개", tagProfileModel.size(), tagProfileModel.profileCount());
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    public Step friendRecommendationStoreStep(JobRepository jobRepository,
+                                              PlatformTransactionManager transactionManager,
+                                              ItemReader<Integer> friendRecommendationReader,
+                                              ItemProcessor<Integer, FriendRecommendation> friendRecommendationProcessor,
+                                              ItemWriter<FriendRecommendation> friendRecommendationWriter) {
+        return new StepBuilder("friendRecommendationStoreStep", jobRepository)
+                .<Integer, FriendRecommendation>chunk(chunkSize, transactionManager)
+                .reader(friendRecommendationReader)
+                .processor(friendRecommendationProcessor)
+                .writer(friendRecommendationWriter)
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    /** 모델에 적재된 유저 순번 **/
+    @Bean
+    @StepScope
+    public ItemReader<Integer> friendRecommendationReader(TagProfileModel tagProfileModel) {
+        AtomicInteger next = new AtomicInteger();
+        return () -> {
+            int index = next.getAndIncrement();
+            return index < tagProfileModel.size() ? index : null;
+        };
+    }
+
+    @Bean
+    public ItemProcessor<Integer, FriendRecommendation> friendRecommendationProcessor(TagProfileModel tagProfileModel) {
+        return index -> new FriendRecommendation(
+                tagProfileModel.userIdAt(index),
+                tagProfileModel.recommend(index, FriendRecommender.TOP_K));
+    }
+
+    @Bean
+    public ItemWriter<FriendRecommendation> friendRecommendationWriter(FriendRecommendationStore friendRecommendationStore) {
+        return chunk -> friendRecommendationStore.saveAll(chunk.getItems());
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.pairing.buds.domain.activity.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 추천 친구 사전 계산 잡 실행 (하루 한 번)
+ * 같은 날 이미 완료됐거나 다른 노드가 실행 중이면 건너뜀
+ */
+@Slf4j
+@Component
+public class FriendRecommendationScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job friendRecommendationJob;
+    private final boolean enabled;
+
+    public FriendRecommendationScheduler(JobLauncher jobLauncher,
+                                         @Qualifier("friendRecommendationJob") Job friendRecommendationJob,
+                                         @Value("${friend-recommendation.enabled:true}") boolean enabled) {
+        this.jobLauncher = jobLauncher;
+        this.friendRecommendationJob = friendRecommendationJob;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(cron = "${friend-recommendation.cron:0 0 5 * * *}")
+    public void recommend() {
+        if (!enabled) return;
+
+        LocalDate date = LocalDate.now();
+        JobParameters params = new JobParametersBuilder()
+                .addLocalDate(FriendRecommendationJobConfig.PARAM_DATE, date)
+                .toJobParameters();
+        try {
+            JobExecution execution = jobLauncher.run(friendRecommendationJob, params);
+            if (execution.getStatus() != BatchStatus.COMPLETED) {
+                log.warn("추천 친구 잡 미완료: status={}, date={}", execution.getStatus(), date);
+                return;
+            }
+            long written = execution.getStepExecutions().stream().mapToLong(s -> s.getWriteCount()).sum();
+            log.info("추천 친구 잡 완료: {}명, date={}", written, date);
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException e) {
+            log.debug("추천 친구 잡 건너뜀: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("추천 친구 잡 실행 실패: date={}", date, e);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.pairing.buds.domain.activity.batch;
+
+import com.pairing.buds.common.utils.MinHash;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 친구 추천 배치용 태그 유사도 모델 (잡 실행 동안만 메모리에 유지)
+ * - 같은 태그 조합을 가진 유저를 하나의 프로필로 묶고 MinHash/LSH 는 프로필 단위로 계산 (유저 수가 아니라 조합 수에 비례)
+ * - 프로필마다 같은 LSH 버킷에 든 프로필을 후보로 정확한 Jaccard 유사도 순으로 정렬해 둠
+ * - 유저별 추천은 유사한 프로필 순으로 멤버를 채우고, 프로필 안에서는 유저마다 다른 위치부터 골라 일부 유저에게 몰리지 않게 함
+ * 스레드 안전하지 않음 (적재 후 index() 이후에는 읽기만)
+ */
+public class TagProfileModel {
+
+    private final Map<String, Integer> profileIds = new HashMap<>();
+    private final List<int[]> profiles = new ArrayList<>();
+
+    private int[] userIds = new int[1024];
+    private int[] profileOf = new int[1024];
+    private int userCount;
+
+    /** 프로필별 멤버 (memberIds[memberStart[p] .. memberStart[p + 1])) **/
+    private int[] memberStart = new int[1];
+    private int[] memberIds = new int[0];
+    /** 프로필별 유사 프로필 (자기 자신 포함, 유사도 내림차순) **/
+    private int[][] similar = new int[0][];
+
+    /** 유저 추가 (sortedTags : 오름차순, 중복 없음, 비어 있지 않음) **/
+    public void add(int userId, int[] sortedTags) {
+        String key = Arrays.toString(sortedTags);
+        Integer profileId = profileIds.get(key);
+        if (profileId == null) {
+            profileId = profiles.size();
+            profiles.add(sortedTags);
+            profileIds.put(key, profileId);
+        }
+        if (userCount == userIds.length) {
+            userIds = Arrays.copyOf(userIds, userCount * 2);
+            profileOf = Arrays.copyOf(profileOf, userCount * 2);
+        }
+        userIds[userCount] = userId;
+        profileOf[userCount] = profileId;
+        userCount++;
+    }
+
+    /** 프로필별 멤버 목록, LSH 버킷, 유사 프로필 목록 계산 **/
+    public void index(MinHash minHash, int maxSimilarProfiles) {
+        int profileCount = profiles.size();
+
+        memberStart = new int[profileCount + 1];
+        for (int i = 0; i < userCount; i++) {
+            memberStart[profileOf[i] + 1]++;
+        }
+        for (int p = 0; p < profileCount; p++) {
+            memberStart[p + 1] += memberStart[p];
+        }
+        memberIds = new int[userCount];
+        int[] next = Arrays.copyOf(memberStart, profileCount);
+        for (int i = 0; i < userCount; i++) {
+            memberIds[next[profileOf[i]]++] = userIds[i];
+        }
+
+        long[][] bandKeys = new long[profileCount][];
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int p = 0; p < profileCount; p++) {
+            bandKeys[p] = minHash.bandKeys(minHash.signature(profiles.get(p)));
+            for (long key : bandKeys[p]) {
+                buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(p);
+            }
+        }
+
+        similar = new int[profileCount][];
+        for (int p = 0; p < profileCount; p++) {
+            Set<Integer> candidates = new HashSet<>();
+            candidates.add(p);
+            for (long key : bandKeys[p]) {
+                candidates.addAll(buckets.get(key));
+            }
+            int[] profile = profiles.get(p);
+            similar[p] = candidates.stream()
+                    .map(c -> new double[]{MinHash.jaccard(profile, profiles.get(c)), c})
+                    .filter(scored -> scored[0] > 0)
+                    .sorted((x, y) -> x[0] != y[0] ? Double.compare(y[0], x[0]) : Double.compare(x[1], y[1]))
+                    .limit(maxSimilarProfiles)
+                    .mapToInt(scored -> (int) scored[1])
+                    .toArray();
+        }
+    }
+
+    public int size() {
+        return userCount;
+    }
+
+    public int userIdAt(int index) {
+        return userIds[index];
+    }
+
+    public int profileCount() {
+        return profiles.size();
+    }
+
+    /** index번째 유저의 추천 유저 id 최대 k명 (유사한 프로필 순) **/
+    public int[] recommend(int index, int k) {
+        int userId = userIds[index];
+        int[] result = new int[k];
+        int n = 0;
+        for (int profile : similar[profileOf[index]]) {
+            int start = memberStart[profile];
+            int size = memberStart[profile + 1] - start;
+            // 같은 프로필 멤버끼리도 시작 위치가 달라지도록 유저 id 해시로 회전
+            int offset = Math.floorMod(userId * 0x9E3779B9, size);
+            for (int j = 0; j < size && n < k; j++) {
+                int candidate = memberIds[start + (offset + j) % size];
+                if (candidate != userId) result[n++] = candidate;
+            }
+            if (n == k) break;
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+}
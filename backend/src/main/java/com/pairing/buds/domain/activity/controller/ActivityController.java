@@ -27,6 +27,13 @@ public class ActivityController {
     ){
         return new ResponseDto(StatusCode.OK, activityService.findFriendByTag(userId)); // opponentId 제거
     }
+    /** 편지 상대가 겹치는 친구 찾기 **/
+    @GetMapping("/find-friend-of-friend")
+    public ResponseDto findFriendOfFriend(
+            @AuthenticationPrincipal int userId
+    ){
+        return new ResponseDto(StatusCode.OK, activityService.findFriendOfFriend(userId));
+    }
     /** 명언 조회 **/
     @GetMapping("/quote")
     public ResponseDto getQuoteByRandom(
@@ -5,6 +5,7 @@ import com.pairing.buds.domain.user.entity.User;
 import jakarta.validation.Valid;
 import lombok.*;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -20,7 +21,7 @@ public class FindFriendByTagResDto {
     private Set<UserDto> users;
 
     public static Set<UserDto> toDto(List<User> users, List<String> allowedTagTypes){
-        return users.stream().map(user -> UserDto.toTagBasedUserDto(user, allowedTagTypes)).collect(Collectors.toSet());
+        return users.stream().map(user -> UserDto.toTagBasedUserDto(user, allowedTagTypes)).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
 }
@@ -0,0 +1,38 @@
+package com.pairing.buds.domain.activity.dto.response;
+
+import com.pairing.buds.domain.user.entity.User;
+import jakarta.validation.Valid;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Valid
+public class FindFriendOfFriendResDto {
+
+    private int userId;
+
+    private String userName;
+
+    private Integer letterCnt;
+
+    private List<String> tagTypes;
+
+    /** 겹치는 편지 상대 수 **/
+    private int sharedCorrespondentCnt;
+
+    public static FindFriendOfFriendResDto toDto(User user, int sharedCorrespondentCnt){
+        return FindFriendOfFriendResDto.builder()
+                .userId(user.getId())
+                .userName(user.getUserName())
+                .letterCnt(user.getLetterCnt())
+                .tagTypes(user.getTags().stream().map(tag -> tag.getTagType().getTagName()).distinct().toList())
+                .sharedCorrespondentCnt(sharedCorrespondentCnt)
+                .build();
+    }
+
+}
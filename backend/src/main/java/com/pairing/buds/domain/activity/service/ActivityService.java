@@ -5,6 +5,7 @@ import com.pairing.buds.common.response.Message;
 import com.pairing.buds.common.response.StatusCode;
 import com.pairing.buds.domain.activity.dto.request.*;
 import com.pairing.buds.domain.activity.dto.response.FindFriendByTagResDto;
+import com.pairing.buds.domain.activity.dto.response.FindFriendOfFriendResDto;
 import com.pairing.buds.domain.activity.dto.response.GetQuoteByRandomResDto;
 import com.pairing.buds.domain.activity.entity.*;
 import com.pairing.buds.domain.activity.repository.ActivityRepository;
@@ -15,12 +16,16 @@ import com.pairing.buds.domain.calendar.entity.*;
 import com.pairing.buds.domain.calendar.repository.BadgeRepository;
 import com.pairing.buds.domain.calendar.repository.CalendarBadgeRepository;
 import com.pairing.buds.domain.calendar.repository.CalendarRepository;
+import com.pairing.buds.domain.letter.service.CorrespondentGraph;
 import com.pairing.buds.domain.user.dto.response.UserDto;
 import com.pairing.buds.domain.user.entity.Tag;
 import com.pairing.buds.domain.user.entity.TagType;
 import com.pairing.buds.domain.user.entity.User;
 import com.pairing.buds.domain.user.repository.TagRepository;
 import com.pairing.buds.domain.user.repository.UserRepository;
+import com.pairing.buds.domain.user.service.LetterTokenService;
+import com.pairing.buds.domain.user.service.PersonaIndex;
+import com.pairing.buds.domain.user.service.TagIndex;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -31,8 +36,14 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,6 +60,22 @@ public class ActivityService {
     private final BadgeRepository badgeRepository;
     private final CalendarBadgeRepository calendarBadgeRepository;
     private final TagRepository tagRepository;
+    private final TagIndex tagIndex;
+    private final PersonaIndex personaIndex;
+    private final FriendRecommendationStore friendRecommendationStore;
+    private final CorrespondentGraph correspondentGraph;
+    private final LetterTokenService letterTokenService;
+
+    /** 친구 추천 시 역색인에서 뽑을 후보 수 (편지 이력 있는 유저를 걸러낸 뒤 10명) **/
+    private static final int FRIEND_SAMPLE_SIZE = 30;
+    /** 친구 추천 시 페르소나 색인에서 가져올 최근접 후보 수 (조건에 맞는 유저가 10명 미만이면 4배씩 늘림) **/
+    private static final int FRIEND_NEIGHBOR_SIZE = 40;
+    private static final int FRIEND_NEIGHBOR_MAX = 640;
+    private static final int FRIEND_LIMIT = 10;
+    /** 친구의 친구 추천 시 그래프에서 가져올 후보 수 (그래프 적재 이후 생긴 편지 이력을 DB 에서 걸러낸 뒤 10명) **/
+    private static final int FRIEND_OF_FRIEND_CANDIDATES = 30;
+    /** 문장 비교 시 무시할 공백/기호 **/
+    private static final Pattern SENTENCE_IGNORED = Pattern.compile("[ !@#$%^&*()_+=,.?/|-]");
 
     /** 기상 시간 등록 **/
     @Transactional
@@ -78,8 +105,7 @@ public class ActivityService {
             throw new ApiException(StatusCode.BAD_REQUEST, Message.ARGUMENT_NOT_PROPER);
         }
 
-        User user = userRepository.findById(userId).orElseThrow(() -> new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND));
-        user.setLetterCnt(user.getLetterCnt() + 3);
+        letterTokenService.grant(userId, LetterTokenService.REWARD_AMOUNT);
     }
     /** 기상 시간 인증 **/
     @Transactional
@@ -89,8 +115,6 @@ public class ActivityService {
         User user = userRepository.findById(userId)
                 .orElseThrow( () -> new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND));
 
-        user.setLetterCnt(user.getLetterCnt() + 3);
-
         // 활동, 유저 활동 생성
         Activity activity = WakeVerifyReqDto.toActivity(user);
         UserActivity userActivity = new UserActivity();
@@ -108,6 +132,9 @@ public class ActivityService {
             throw new ApiException(StatusCode.BAD_REQUEST, Message.ALREADY_VERIFIED);
         }
 
+        // 리워드 지급
+        letterTokenService.grant(userId, LetterTokenService.REWARD_AMOUNT);
+
         // 뱃지 조회
         Badge badge = badgeRepository.findByName("WAKE");
 
@@ -130,8 +157,8 @@ public class ActivityService {
     /** 사용자 음성 활동 인증 **/
     @Transactional
     public void activitySentenceVoice(int userId, ActivitySentenceVoiceReqDto dto) {
-        String originalSentenceText = dto.getOriginalSentenceText().replaceAll("[ !@#$%^&*()_+=,.?/|-]", "");
-        String userSentence = dto.getUserSentenceText().replaceAll("[ !@#$%^&*()_+=,.?/|-]", "");
+        String originalSentenceText = normalizeSentence(dto.getOriginalSentenceText());
+        String userSentence = normalizeSentence(dto.getUserSentenceText());
 
         if(originalSentenceText.isEmpty() || userSentence.isEmpty() || !originalSentenceText.equalsIgnoreCase(userSentence)   ){
             throw new ApiException(StatusCode.BAD_REQUEST, Message.ARGUMENT_NOT_PROPER);
@@ -155,7 +182,7 @@ public class ActivityService {
 
         // 유저 정보가 필요하므로 조회
         User user = userRepository.findById(userId).orElseThrow( () -> new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND));
-        user.setLetterCnt(user.getLetterCnt() + 3);
+        letterTokenService.grant(userId, LetterTokenService.REWARD_AMOUNT);
 
         UserActivity userActivity = new UserActivity();
         userActivity.setUser(user);
@@ -183,6 +210,11 @@ public class ActivityService {
 
     }
 
+    /** 음성 인식 문장 비교용 정규화 (공백/기호 제거) **/
+    public static String normalizeSentence(String sentence) {
+        return SENTENCE_IGNORED.matcher(sentence).replaceAll("");
+    }
+
     /** 만보기 리워드 신청 **/
     @Transactional
     public void walkRewardReq(int userId, WalkRewardReqDto dto) {
@@ -198,7 +230,6 @@ public class ActivityService {
         // 유저 조회
         User user = userRepository.findById(userId)
                 .orElseThrow( () -> new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND));
-        user.setLetterCnt(user.getLetterCnt() + 3);
         // 활동, 유저 활동 생성
         Activity activity = WalkRewardReqDto.toActivity(user, dto);
         UserActivity userActivity = UserActivity.builder()
@@ -216,6 +247,9 @@ public class ActivityService {
             throw new ApiException(StatusCode.BAD_REQUEST, Message.ALREADY_VERIFIED);
         }
 
+        // 리워드 지급
+        letterTokenService.grant(userId, LetterTokenService.REWARD_AMOUNT);
+
         Badge badge = badgeRepository.findByName("WALK"+userStepSet);
 
         // 캘린더와 연동
@@ -308,7 +342,7 @@ public class ActivityService {
         userActivityRepository.save(userActivity);
 
         // 유저 리워드 편지 3개 추가
-        user.setLetterCnt(user.getLetterCnt() + 3);
+        letterTokenService.grant(userId, LetterTokenService.REWARD_AMOUNT);
     }
 
     /** 취향이 맞는 친구 찾기 **/
@@ -318,13 +352,94 @@ public class ActivityService {
         // User opponent = userRepository.findById(opponentId).orElseThrow(() -> new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND));
         
         // 취향 맞는 추천 친구 조회 (10명)
-        Pageable pageable = PageRequest.of(0, 10);
-        List<User> recommendedUsers = tagRepository.findTop10RecommendedUsers(userId, pageable);
+        // 배치로 미리 계산한 태그 유사도 순 목록에서 편지 이력이 없는 유저,
+        // 10명이 안 되면 설문 점수가 가까운 순으로 태그가 겹치는 유저, 태그 역색인에서 임의 후보, 기존 쿼리 순으로 채움
+        List<Integer> tagTypeIds = user.getTags().stream().map(tag -> tag.getTagType().getId()).toList();
+        Map<Integer, User> recommended = new LinkedHashMap<>();
+        addFriends(recommended, findPrecomputedFriends(userId));
+        byte[] persona = personaIndex.isReady() ? personaIndex.vectorOf(userId) : null;
+        if (recommended.size() < FRIEND_LIMIT && persona != null && !tagTypeIds.isEmpty()) {
+            addFriends(recommended, findNearestFriends(userId, persona, tagTypeIds, recommended.keySet()));
+        }
+        if (recommended.size() < FRIEND_LIMIT && tagIndex.isReady() && !tagTypeIds.isEmpty()) {
+            List<Integer> sampled = tagIndex.sample(tagTypeIds, FRIEND_SAMPLE_SIZE, userId).stream()
+                    .filter(id -> !recommended.containsKey(id))
+                    .toList();
+            if (!sampled.isEmpty()) {
+                addFriends(recommended, userRepository.findUsersWithoutLetterHistory(userId, sampled));
+            }
+        }
+        // 역색인이 아직 준비되지 않았거나 후보가 모두 걸러진 경우 기존 쿼리 (이미 뽑힌 유저와 겹칠 수 있어 그만큼 더 조회)
+        if (recommended.size() < FRIEND_LIMIT) {
+            Pageable pageable = PageRequest.of(0, FRIEND_LIMIT + recommended.size());
+            addFriends(recommended, tagRepository.findTop10RecommendedUsers(userId, pageable));
+        }
+        List<User> recommendedUsers = new ArrayList<>(recommended.values());
         // 공통되는 태그
         List<String> allowedTags = user.getTags().stream().map(tag -> tag.getTagType().getTagName()).toList();
         return FindFriendByTagResDto.toDto(recommendedUsers, allowedTags);
     }
 
+    /** 미리 계산된 추천 목록 중 조건에 맞는 유저를 추천 순으로 최대 10명 **/
+    private List<User> findPrecomputedFriends(int userId) {
+        List<Integer> precomputed = friendRecommendationStore.find(userId);
+        if (precomputed.isEmpty()) return List.of();
+        Map<Integer, User> eligible = userRepository.findUsersWithoutLetterHistory(userId, precomputed).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return precomputed.stream()
+                .map(eligible::get)
+                .filter(Objects::nonNull)
+                .limit(FRIEND_LIMIT)
+                .toList();
+    }
+
+    /** 페르소나 최근접 후보 중 조건에 맞는 유저를 가까운 순으로 (이미 뽑힌 유저 제외, 합쳐서 최대 10명) **/
+    private List<User> findNearestFriends(int userId, byte[] persona, List<Integer> tagTypeIds, Set<Integer> picked) {
+        int needed = FRIEND_LIMIT - picked.size();
+        List<User> friends = List.of();
+        for (int k = FRIEND_NEIGHBOR_SIZE; k <= FRIEND_NEIGHBOR_MAX; k *= 4) {
+            List<Integer> nearest = personaIndex.nearest(persona, k, userId);
+            List<Integer> candidates = nearest.stream().filter(id -> !picked.contains(id)).toList();
+            if (candidates.isEmpty()) break;
+            Map<Integer, User> eligible = userRepository.findUsersWithoutLetterHistoryByTags(userId, candidates, tagTypeIds).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            friends = candidates.stream()
+                    .map(eligible::get)
+                    .filter(Objects::nonNull)
+                    .limit(needed)
+                    .toList();
+            if (friends.size() >= needed || nearest.size() < k) break;
+        }
+        return friends;
+    }
+
+    /** 추천 목록 채우기 (중복 제외, 최대 10명) **/
+    private static void addFriends(Map<Integer, User> friends, List<User> candidates) {
+        for (User candidate : candidates) {
+            if (friends.size() >= FRIEND_LIMIT) return;
+            friends.putIfAbsent(candidate.getId(), candidate);
+        }
+    }
+
+    /** 편지 상대가 겹치는 친구 찾기 (친구의 친구, 겹치는 상대가 많은 순 10명) **/
+    public List<FindFriendOfFriendResDto> findFriendOfFriend(int userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND);
+        }
+        if (!correspondentGraph.isReady()) return List.of();
+
+        List<CorrespondentGraph.Candidate> candidates = correspondentGraph.friendsOfFriends(userId, FRIEND_OF_FRIEND_CANDIDATES);
+        if (candidates.isEmpty()) return List.of();
+        Map<Integer, User> eligible = userRepository.findUsersWithoutLetterHistory(userId,
+                        candidates.stream().map(CorrespondentGraph.Candidate::getUserId).toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return candidates.stream()
+                .filter(candidate -> eligible.containsKey(candidate.getUserId()))
+                .limit(FRIEND_LIMIT)
+                .map(candidate -> FindFriendOfFriendResDto.toDto(eligible.get(candidate.getUserId()), candidate.getSharedCount()))
+                .toList();
+    }
+
     /** 명언 랜덤 조회 **/
     public GetQuoteByRandomResDto getQuoteByRandom(int userId) {
         // 명언 랜덤 조회
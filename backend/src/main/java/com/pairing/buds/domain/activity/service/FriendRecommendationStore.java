@@ -0,0 +1,93 @@
+package com.pairing.buds.domain.activity.service;
+
+import com.pairing.buds.domain.activity.batch.FriendRecommendation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 추천 친구 목록 저장소 (Redis 문자열 "friend-reco:{userId}" = "id,id,...")
+ * 배치/태그 변경 시 갱신, 조회는 키 하나 GET
+ * TTL 안에 배치가 다시 돌지 않으면 만료되어 실시간 추천 경로로 대체됨
+ */
+@Slf4j
+@Component
+public class FriendRecommendationStore {
+
+    private static final String KEY_PREFIX = "friend-reco:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public FriendRecommendationStore(@Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                     @Value("${friend-recommendation.ttl-hours:72}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(Math.max(1, ttlHours));
+    }
+
+    /** 추천 친구 id (추천 순, 없으면 빈 목록) **/
+    public List<Integer> find(int userId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        if (value == null || value.isEmpty()) return List.of();
+        List<Integer> ids = new ArrayList<>();
+        for (String id : value.split(",")) {
+            try {
+                ids.add(Integer.valueOf(id));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 추천 친구 목록: userId={}, value={}", userId, value);
+                return List.of();
+            }
+        }
+        return ids;
+    }
+
+    /** 한 유저의 목록 교체 (비어 있으면 삭제) **/
+    public void save(int userId, int[] recommendedIds) {
+        if (recommendedIds.length == 0) {
+            redisTemplate.delete(KEY_PREFIX + userId);
+            return;
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, join(recommendedIds), ttl);
+    }
+
+    public void remove(int userId) {
+        redisTemplate.delete(KEY_PREFIX + userId);
+    }
+
+    /** 배치 chunk 단위 저장 (파이프라인으로 왕복 1회) **/
+    public void saveAll(List<? extends FriendRecommendation> recommendations) {
+        if (recommendations.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (FriendRecommendation recommendation : recommendations) {
+                    String key = KEY_PREFIX + recommendation.getUserId();
+                    if (recommendation.getRecommendedIds().length == 0) {
+                        ops.delete(key);
+                    } else {
+                        ops.opsForValue().set(key, join(recommendation.getRecommendedIds()), ttl);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    private static String join(int[] ids) {
+        return Arrays.stream(ids).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+
+}
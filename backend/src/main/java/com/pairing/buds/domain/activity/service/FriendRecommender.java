@@ -0,0 +1,61 @@
+package com.pairing.buds.domain.activity.service;
+
+import com.pairing.buds.common.utils.MinHash;
+import com.pairing.buds.common.utils.TransactionUtils;
+import com.pairing.buds.domain.user.service.TagIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 태그 변경 시 해당 유저의 추천 친구 목록 즉시 재계산
+ * 전체 유사도 계산은 야간 배치(FriendRecommendationJobConfig)가 담당하고,
+ * 여기서는 태그 역색인에서 후보를 샘플링해 Jaccard 유사도 상위 TOP_K 만 다시 저장
+ * (다른 유저의 목록에는 다음 배치부터 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendRecommender {
+
+    public static final int TOP_K = 30;
+    private static final int CANDIDATE_SIZE = 300;
+
+    private final TagIndex tagIndex;
+    private final FriendRecommendationStore friendRecommendationStore;
+
+    /** 유저의 태그가 바뀐 경우 (트랜잭션 커밋 후 반영) **/
+    public void updateUser(int userId, Collection<Integer> tagTypeIds) {
+        int[] tags = tagTypeIds.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        TransactionUtils.afterCommit(() -> {
+            try {
+                friendRecommendationStore.save(userId, recommend(userId, tags));
+            } catch (RuntimeException e) {
+                log.warn("추천 친구 재계산 실패: userId={}", userId, e);
+            }
+        });
+    }
+
+    /** 탈퇴/비활성화 유저 목록 삭제 **/
+    public void removeUser(int userId) {
+        TransactionUtils.afterCommit(() -> friendRecommendationStore.remove(userId));
+    }
+
+    private int[] recommend(int userId, int[] tags) {
+        if (tags.length == 0 || !tagIndex.isReady()) return new int[0];
+        List<Integer> candidates = tagIndex.sample(Arrays.stream(tags).boxed().toList(), CANDIDATE_SIZE, userId);
+        return candidates.stream()
+                .map(candidate -> new double[]{MinHash.jaccard(tags, tagIndex.tagsOf(candidate)), candidate})
+                .filter(scored -> scored[0] > 0)
+                .sorted(Comparator.<double[]>comparingDouble(scored -> -scored[0]).thenComparingDouble(scored -> scored[1]))
+                .limit(TOP_K)
+                .mapToInt(scored -> (int) scored[1])
+                .toArray();
+    }
+
+}
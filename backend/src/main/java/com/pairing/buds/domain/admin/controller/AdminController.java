@@ -1,10 +1,12 @@
 package com.pairing.buds.domain.admin.controller;
 
+import com.pairing.buds.common.auth.service.SessionAdminService;
 import com.pairing.buds.common.response.Message;
 import com.pairing.buds.common.response.ResponseDto;
 import com.pairing.buds.common.response.StatusCode;
 import com.pairing.buds.domain.admin.dto.request.ActiveUserReqDto;
 import com.pairing.buds.domain.admin.dto.request.InActiveUserReqDto;
+import com.pairing.buds.domain.admin.dto.request.RevokeSessionsReqDto;
 import com.pairing.buds.domain.admin.service.AdminService;
 import com.pairing.buds.domain.cs.dto.answer.request.CreateAnswerReqDto;
 import com.pairing.buds.domain.cs.dto.answer.request.DeleteAnswerReqDto;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final SessionAdminService sessionAdminService;
 
     /** 해당 유저의 문의 조회 **/
     @GetMapping("/users/{userId}")
@@ -107,4 +110,36 @@ public class AdminController {
         adminService.deleteAnswer(adminId, dto);
         return new ResponseDto(StatusCode.OK, Message.OK);
     }
+
+    /** 특정 유저 세션 강제 종료 **/
+    @DeleteMapping("/sessions/{userId}")
+    public ResponseDto revokeUserSessions(
+            @PathVariable("userId") int userId
+    ){
+        return new ResponseDto(StatusCode.OK, sessionAdminService.revokeUser(userId));
+    }
+
+    /** 여러 유저 세션 강제 종료 **/
+    @PostMapping("/sessions/revoke")
+    public ResponseDto revokeSessions(
+            @Valid @RequestBody RevokeSessionsReqDto dto
+    ){
+        return new ResponseDto(StatusCode.OK, sessionAdminService.revokeUsers(dto.getUserIds()));
+    }
+
+    /** 전체 세션 강제 종료 (백그라운드 작업 시작) **/
+    @PostMapping("/sessions/revoke-all")
+    public ResponseDto revokeAllSessions(
+            @AuthenticationPrincipal int adminId
+    ){
+        return new ResponseDto(StatusCode.OK, sessionAdminService.revokeAll(adminId));
+    }
+
+    /** 전체 세션 강제 종료 진행 상황 조회 **/
+    @GetMapping("/sessions/revoke-all/{jobId}")
+    public ResponseDto getRevokeAllSessionsJob(
+            @PathVariable("jobId") String jobId
+    ){
+        return new ResponseDto(StatusCode.OK, sessionAdminService.getJob(jobId));
+    }
 }
@@ -0,0 +1,24 @@
+package com.pairing.buds.domain.admin.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Valid
+public class RevokeSessionsReqDto {
+
+    @NotEmpty
+    @Size(max = 10000)
+    private List<@NotNull @Positive Integer> userIds;
+
+}
@@ -0,0 +1,18 @@
+package com.pairing.buds.domain.admin.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokeSessionsResDto {
+
+    /** 세션 종료를 요청한 유저 수 (중복 제거) **/
+    private int userCount;
+
+    /** 종료된 세션 수 + 삭제된 Redis 키 수 **/
+    private long revokedKeys;
+
+}
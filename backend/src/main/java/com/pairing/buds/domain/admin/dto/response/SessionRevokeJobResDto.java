@@ -0,0 +1,57 @@
+package com.pairing.buds.domain.admin.dto.response;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionRevokeJobResDto {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private String jobId;
+
+    private String status;
+
+    /** 현재 정리 중인 키 패턴 **/
+    private String currentPattern;
+
+    /** SCAN으로 확인한 키 수 **/
+    private long scannedKeys;
+
+    /** 종료된 세션 수 + UNLINK로 삭제된 키 수 **/
+    private long revokedKeys;
+
+    private Integer requestedBy;
+
+    private Long startedAt;
+
+    private Long finishedAt;
+
+    public static SessionRevokeJobResDto toDto(String jobId, Map<Object, Object> fields){
+        return SessionRevokeJobResDto.builder()
+                .jobId(jobId)
+                .status(asString(fields.get("status")))
+                .currentPattern(asString(fields.get("currentPattern")))
+                .scannedKeys(asLong(fields.get("scannedKeys"), 0L))
+                .revokedKeys(asLong(fields.get("revokedKeys"), 0L))
+                .requestedBy(fields.get("requestedBy") == null ? null : Integer.valueOf(fields.get("requestedBy").toString()))
+                .startedAt(asLong(fields.get("startedAt"), null))
+                .finishedAt(asLong(fields.get("finishedAt"), null))
+                .build();
+    }
+
+    private static String asString(Object value){
+        return value == null ? null : value.toString();
+    }
+
+    private static Long asLong(Object value, Long defaultValue){
+        return value == null ? defaultValue : Long.valueOf(value.toString());
+    }
+}
@@ -11,7 +11,12 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "admin")
+@Table(
+        name = "admin",
+        indexes = {
+                @Index(name = "idx_admin_login", columnList = "admin_email, password, role")
+        }
+)
 public class Admin extends CreateBaseTime {
 
     @Id
@@ -2,6 +2,9 @@ package com.pairing.buds.domain.admin.repository;
 
 import com.pairing.buds.domain.admin.entity.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,9 @@ public interface AdminRepository extends JpaRepository<Admin, Integer> {
 
     Optional<Admin> findByEmail(String email);
 
+    /** 비밀번호 해시 교체 (로그인 시 재해시) **/
+    @Modifying
+    @Query("UPDATE Admin a SET a.password = :password WHERE a.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
 }
@@ -3,6 +3,7 @@ package com.pairing.buds.domain.admin.service;
 import com.pairing.buds.common.exception.ApiException;
 import com.pairing.buds.common.response.Message;
 import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.domain.activity.service.FriendRecommender;
 import com.pairing.buds.domain.admin.dto.request.ActiveUserReqDto;
 import com.pairing.buds.domain.admin.dto.request.InActiveUserReqDto;
 import com.pairing.buds.domain.admin.entity.Admin;
@@ -18,9 +19,12 @@ import com.pairing.buds.domain.cs.entity.Question;
 import com.pairing.buds.domain.cs.entity.QuestionStatus;
 import com.pairing.buds.domain.cs.repository.AnswerRepository;
 import com.pairing.buds.domain.cs.repository.QuestionRepository;
+import com.pairing.buds.domain.letter.service.ReceiverPool;
 import com.pairing.buds.domain.user.dto.response.GetAllUsersResDto;
 import com.pairing.buds.domain.user.entity.User;
 import com.pairing.buds.domain.user.repository.UserRepository;
+import com.pairing.buds.domain.user.service.PersonaIndex;
+import com.pairing.buds.domain.user.service.TagIndex;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +43,10 @@ public class AdminService {
     private final AdminRepository adminRepository;
     private final UserRepository userRepository;
     private final QuestionRepository questionRepository;
+    private final ReceiverPool receiverPool;
+    private final TagIndex tagIndex;
+    private final PersonaIndex personaIndex;
+    private final FriendRecommender friendRecommender;
 
     /** 문의 조회 **/
     public GetQuestionsResDto getQuestionsOfUser(int userId) {
@@ -128,6 +136,9 @@ public class AdminService {
         User user = userRepository.findById(userId).orElseThrow(() -> new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND));
         User activatedUser = ActiveUserReqDto.toActiveUser(user);
         userRepository.save(activatedUser);
+        receiverPool.add(userId);
+        tagIndex.updateUser(userId, user.getTags().stream().map(tag -> tag.getTagType().getId()).toList());
+        personaIndex.updateUser(activatedUser);
     }
     @Transactional
     /** 회원 비활성화 **/
@@ -138,6 +149,10 @@ public class AdminService {
         User user = userRepository.findById(userId).orElseThrow(() -> new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND));
         User inActivatedUser = InActiveUserReqDto.toInActiveUser(user);
         userRepository.save(inActivatedUser);
+        receiverPool.remove(userId);
+        tagIndex.removeUser(userId);
+        personaIndex.removeUser(userId);
+        friendRecommender.removeUser(userId);
     }
 
 
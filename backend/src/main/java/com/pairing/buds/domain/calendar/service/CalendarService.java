@@ -77,7 +77,14 @@ public class CalendarService {
         Date end = java.sql.Date.valueOf(endDate);
         List<Diary> diaries = diaryRepository.findByUserAndDateBetween(user, start, end);
 
-        // 5. 날짜별로 그룹화
+        // 5. 날짜별 뱃지/일기 조립
+        return assembleMonth(startDate, endDate, calendarBadges, diaries);
+    }
+
+    /** 조회한 뱃지/일기를 달의 날짜별 응답으로 조립 **/
+    public static List<BadgeAndDiaryResDto> assembleMonth(LocalDate startDate, LocalDate endDate,
+                                                          List<CalendarBadge> calendarBadges, List<Diary> diaries) {
+        // 날짜별로 그룹화
         Map<LocalDate, List<CalendarBadge>> badgeMap = calendarBadges.stream()
                 .collect(Collectors.groupingBy(cb -> cb.getCalendar().getDate()));
         Map<LocalDate, List<Diary>> diaryMap = diaries.stream()
@@ -85,7 +92,7 @@ public class CalendarService {
                         d -> d.getDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate()
                 ));
 
-        // 6. 날짜별로 BadgeAndDiaryResDto 생성
+        // 날짜별로 BadgeAndDiaryResDto 생성
         List<BadgeAndDiaryResDto> result = new ArrayList<>();
         for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
             List<BadgeResDto> badgeList = badgeMap.getOrDefault(day, Collections.emptyList())
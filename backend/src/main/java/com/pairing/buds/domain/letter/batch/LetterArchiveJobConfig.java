@@ -0,0 +1,105 @@
+package com.pairing.buds.domain.letter.batch;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오래된 편지 보관 잡 (letters → letters_archive)
+ * - 보관 기준 시각(cutoff) 이전에 작성된 편지를 letter_id 순으로 chunk 단위 이동 (INSERT IGNORE + DELETE, chunk 마다 커밋)
+ * - 리더가 마지막 letter_id 를 실행 컨텍스트에 저장하므로 실패 시 같은 파라미터로 재실행하면 이어서 진행
+ * - 스크랩된 편지(letter_favorites FK), 대화의 마지막 편지(채팅 목록/답장 기준)는 letters 에 남김
+ */
+@Configuration
+public class LetterArchiveJobConfig {
+
+    public static final String JOB_NAME = "letterArchiveJob";
+    public static final String PARAM_CUTOFF = "cutoff";
+    public static final String PARAM_MAX_LETTER_ID = "maxLetterId";
+
+    private static final String ARCHIVE_SQL = """
+        INSERT IGNORE INTO letters_archive
+            (letter_id, receiver, sender, status, is_tag_based, is_scrapped, is_answered, created_at)
+        SELECT letter_id, receiver, sender, status, is_tag_based, is_scrapped, is_answered, created_at
+        FROM letters
+        WHERE letter_id IN (:letterIds)
+        """;
+    private static final String DELETE_SQL = "DELETE FROM letters WHERE letter_id IN (:letterIds)";
+
+    @Value("${letter.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Bean
+    public Job letterArchiveJob(JobRepository jobRepository, Step letterArchiveStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(letterArchiveStep)
+                .build();
+    }
+
+    @Bean
+    public Step letterArchiveStep(JobRepository jobRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  JdbcPagingItemReader<Integer> letterArchiveReader,
+                                  ItemWriter<Integer> letterArchiveWriter) {
+        return new StepBuilder("letterArchiveStep", jobRepository)
+                .<Integer, Integer>chunk(chunkSize, transactionManager)
+                .reader(letterArchiveReader)
+                .writer(letterArchiveWriter)
+                .build();
+    }
+
+    /** 보관 대상 letter_id (letter_id 범위로 제한해 최근 편지 구간은 읽지 않음) **/
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Integer> letterArchiveReader(DataSource dataSource,
+                                                             @Value("#{jobParameters['cutoff']}") LocalDateTime cutoff,
+                                                             @Value("#{jobParameters['maxLetterId']}") Long maxLetterId) {
+        return new JdbcPagingItemReaderBuilder<Integer>()
+                .name("letterArchiveReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT letter_id")
+                .fromClause("FROM letters")
+                .whereClause("""
+                        letter_id <= :maxLetterId
+                          AND created_at < :cutoff
+                          AND (is_scrapped IS NULL OR is_scrapped = false)
+                          AND NOT EXISTS (SELECT 1 FROM letter_favorites f WHERE f.letter_id = letters.letter_id)
+                          AND NOT EXISTS (SELECT 1 FROM conversations c WHERE c.last_letter_id = letters.letter_id)
+                        """)
+                .parameterValues(Map.of("cutoff", cutoff, "maxLetterId", maxLetterId))
+                .sortKeys(Map.of("letter_id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> rs.getInt("letter_id"))
+                .pageSize(chunkSize)
+                .build();
+    }
+
+    /** chunk 하나를 한 트랜잭션에서 복사 후 삭제 **/
+    @Bean
+    public ItemWriter<Integer> letterArchiveWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        return chunk -> {
+            List<? extends Integer> letterIds = chunk.getItems();
+            if (letterIds.isEmpty()) return;
+            Map<String, Object> params = Map.of("letterIds", letterIds);
+            jdbcTemplate.update(ARCHIVE_SQL, params);
+            jdbcTemplate.update(DELETE_SQL, params);
+        };
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.pairing.buds.domain.letter.batch;
+
+import com.pairing.buds.domain.letter.repository.LetterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 편지 보관 잡 실행 (하루 한 번)
+ * 같은 날 다시 실행하면 같은 JobInstance 로 이어서 진행, 다른 노드가 실행 중이면 건너뜀
+ */
+@Slf4j
+@Component
+public class LetterArchiveScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job letterArchiveJob;
+    private final LetterRepository letterRepository;
+    private final boolean enabled;
+    private final int horizonDays;
+
+    public LetterArchiveScheduler(JobLauncher jobLauncher,
+                                  @Qualifier("letterArchiveJob") Job letterArchiveJob,
+                                  LetterRepository letterRepository,
+                                  @Value("${letter.archive.enabled:true}") boolean enabled,
+                                  @Value("${letter.archive.horizon-days:365}") int horizonDays) {
+        this.jobLauncher = jobLauncher;
+        this.letterArchiveJob = letterArchiveJob;
+        this.letterRepository = letterRepository;
+        this.enabled = enabled;
+        this.horizonDays = Math.max(30, horizonDays);
+    }
+
+    @Scheduled(cron = "${letter.archive.cron:0 30 4 * * *}")
+    public void archive() {
+        if (!enabled) return;
+
+        LocalDateTime cutoff = LocalDate.now().minusDays(horizonDays).atStartOfDay();
+        Integer maxLetterId = letterRepository.findLastLetterIdCreatedBefore(cutoff);
+        if (maxLetterId == null) return;
+
+        JobParameters params = new JobParametersBuilder()
+                .addLocalDateTime(LetterArchiveJobConfig.PARAM_CUTOFF, cutoff)
+                // 진행 중 값이 바뀌어도 같은 JobInstance 로 재시작되도록 식별 파라미터에서 제외
+                .addLong(LetterArchiveJobConfig.PARAM_MAX_LETTER_ID, maxLetterId.longValue(), false)
+                .toJobParameters();
+        try {
+            JobExecution execution = jobLauncher.run(letterArchiveJob, params);
+            if (execution.getStatus() != BatchStatus.COMPLETED) {
+                log.warn("편지 보관 잡 미완료: status={}, cutoff={}", execution.getStatus(), cutoff);
+                return;
+            }
+            long moved = execution.getStepExecutions().stream().mapToLong(s -> s.getWriteCount()).sum();
+            log.info("편지 보관 잡 완료: {}건, cutoff={}", moved, cutoff);
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException e) {
+            log.debug("편지 보관 잡 건너뜀: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("편지 보관 잡 실행 실패: cutoff={}", cutoff, e);
+        }
+    }
+
+}
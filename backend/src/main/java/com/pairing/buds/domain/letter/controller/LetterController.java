@@ -4,12 +4,19 @@ import com.pairing.buds.common.response.Message;
 import com.pairing.buds.common.response.ResponseDto;
 import com.pairing.buds.common.response.StatusCode;
 import com.pairing.buds.domain.letter.dto.request.*;
+import com.pairing.buds.domain.letter.service.LetterOutboxService;
+import com.pairing.buds.domain.letter.service.LetterPushService;
+import com.pairing.buds.domain.letter.service.LetterSearchService;
 import com.pairing.buds.domain.letter.service.LetterService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +25,9 @@ import org.springframework.web.bind.annotation.*;
 public class LetterController {
 
     private final LetterService letterService;
+    private final LetterOutboxService letterOutboxService;
+    private final LetterPushService letterPushService;
+    private final LetterSearchService letterSearchService;
 
     /** 편지 단건 조회 **/
     @GetMapping("/detail/{letterId}")
@@ -28,20 +38,55 @@ public class LetterController {
     ) {
         return new ResponseDto(StatusCode.OK, letterService.getLetterDetail(userId, letterId));
     }
-    /** 편지 채팅 리스트 조회 **/
+    /**
+     * 편지 채팅 리스트 조회 (cursor : 이전 응답의 nextCursor)
+     * cursor, size 둘 다 없으면 전체 목록 (페이지를 넘기지 않는 기존 클라이언트 호환)
+     **/
     @GetMapping("/chats")
-    public ResponseDto getLetterChatList(@AuthenticationPrincipal Integer userId) {
-        return new ResponseDto(StatusCode.OK, letterService.getLetterChatList(userId));
+    public ResponseDto getLetterChatList(
+            @AuthenticationPrincipal Integer userId,
+            @RequestParam(name = "cursor", required = false) Integer cursor,
+            @RequestParam(name = "size", required = false) Integer size) {
+        return new ResponseDto(StatusCode.OK, letterService.getLetterChatList(userId, cursor, size));
     }
-    /** 특정 사용자와의 편지 상세 목록 조회 **/
+    /**
+     * 특정 사용자와의 편지 상세 목록 조회
+     * - page 지정 시 : 기존 오프셋 페이지 (withTotal=false면 전체 개수 조회 생략)
+     * - page 미지정 시 : 키셋 페이지 (beforeLetterId = 이전 응답의 nextCursor, 첫 페이지는 생략)
+     **/
     @GetMapping("/chats/details")
     public ResponseDto getLetterDetailList(
             @AuthenticationPrincipal Integer userId,
             @RequestParam("opponentId") Integer opponentId,
-            @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "5") int size) {
-        return new ResponseDto(StatusCode.OK, letterService.getLetterDetailList(userId, opponentId, page, size));
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "beforeLetterId", required = false) Integer beforeLetterId,
+            @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal) {
+        int pageSize = Math.max(1, Math.min(size, 50));
+        if (page != null) {
+            return new ResponseDto(StatusCode.OK, letterService.getLetterDetailList(userId, opponentId, page, pageSize, withTotal));
+        }
+        return new ResponseDto(StatusCode.OK, letterService.getLetterDetailListBefore(userId, opponentId, beforeLetterId, pageSize));
+    }
+
+    /** 내 편지 본문 검색 (beforeLetterId : 이전 응답의 nextCursor) **/
+    @GetMapping("/search")
+    public ResponseDto searchLetters(
+            @AuthenticationPrincipal Integer userId,
+            @RequestParam("q") String query,
+            @RequestParam(name = "beforeLetterId", required = false) Integer beforeLetterId,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return new ResponseDto(StatusCode.OK, letterSearchService.search(userId, query, beforeLetterId, size));
+    }
+
+    /** 상대에게 받은 편지 전체 읽음 처리 **/
+    @PostMapping("/chats/{opponentId}/read")
+    public ResponseDto markConversationRead(@AuthenticationPrincipal Integer userId,
+                                            @PathVariable("opponentId") Integer opponentId) {
+        letterService.markConversationRead(userId, opponentId);
+        return new ResponseDto(StatusCode.OK, Message.OK);
     }
+
     /** 최근 수신 편지 1건 조회 **/
     @GetMapping("/latest-received")
     public ResponseDto getLatestReceivedLetter(@AuthenticationPrincipal Integer userId) {
@@ -96,6 +141,36 @@ public class LetterController {
         return new ResponseDto(StatusCode.OK, Message.OK);
     }
 
+    /**
+     * 편지 랜덤 발송 (비동기)
+     * 검증과 편지 토큰 차감까지만 처리하고 202 응답, 수신자 선택/저장은 워커에서 처리
+     **/
+    @PostMapping("/send-async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseDto sendLetterAsync(@AuthenticationPrincipal Integer userId,
+                                       @RequestBody SendLetterReqDto dto) {
+        return new ResponseDto(StatusCode.ACCEPTED, letterOutboxService.enqueue(userId, dto));
+    }
+
+    /**
+     * 새 편지 실시간 알림 구독 (SSE)
+     * 연결되어 있는 동안은 최근 받은 편지/채팅 목록을 주기적으로 조회할 필요 없음
+     **/
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLetters(@AuthenticationPrincipal Integer userId,
+                                    HttpServletResponse response) {
+        // 프록시 버퍼링 방지
+        response.setHeader("X-Accel-Buffering", "no");
+        return letterPushService.connect(userId);
+    }
+
+    /** 비동기 발송 요청 상태 조회 **/
+    @GetMapping("/send-async/{outboxId}")
+    public ResponseDto getSendLetterStatus(@AuthenticationPrincipal Integer userId,
+                                           @PathVariable("outboxId") Long outboxId) {
+        return new ResponseDto(StatusCode.OK, letterOutboxService.getStatus(userId, outboxId));
+    }
+
 
     /** 편지 스크랩 취소 **/
     @DeleteMapping("/scrap-cancel")
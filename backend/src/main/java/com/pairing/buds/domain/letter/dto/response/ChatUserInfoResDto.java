@@ -19,4 +19,15 @@ public class ChatUserInfoResDto {
     private LetterStatus lastLetterStatus;  // 가장 최신 편지의 읽음/읽지 않음 상태
     private boolean isReceived;             // 가장 최신 편지가 내가 받은 편지인지 보낸 편지인지 표시
 
+    public static ChatUserInfoResDto toDto(ConversationSummaryDto summary){
+        return ChatUserInfoResDto.builder()
+                .userId(summary.getOpponentId())
+                .recentLetterId(summary.getLastLetterId())
+                .userName(summary.getOpponentName())
+                .lastLetterDate(summary.getLastLetterAt().toLocalDate())
+                .lastLetterStatus(summary.getLastLetterStatus())
+                .isReceived(Boolean.TRUE.equals(summary.getIsReceived()))
+                .build();
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.pairing.buds.domain.letter.dto.response;
+
+import com.pairing.buds.domain.letter.entity.LetterStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 리스트 한 행 (conversations + 상대방 닉네임)
+ */
+public interface ConversationSummaryDto {
+
+    Integer getOpponentId();
+
+    String getOpponentName();
+
+    Integer getLastLetterId();
+
+    LocalDateTime getLastLetterAt();
+
+    LetterStatus getLastLetterStatus();
+
+    Boolean getIsReceived();
+
+}
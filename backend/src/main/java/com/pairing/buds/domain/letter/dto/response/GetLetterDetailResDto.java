@@ -1,6 +1,7 @@
 package com.pairing.buds.domain.letter.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.pairing.buds.domain.letter.entity.ArchivedLetter;
 import com.pairing.buds.domain.letter.entity.Letter;
 import com.pairing.buds.domain.letter.entity.LetterStatus;
 import jakarta.validation.Valid;
@@ -45,5 +46,17 @@ public class GetLetterDetailResDto {
         return response;
     }
 
-}
+    /** 보관된 편지 (본문은 letter_bodies 에서 따로 조회) **/
+    public static GetLetterDetailResDto toDto(ArchivedLetter letter, String content){
+        GetLetterDetailResDto response = new GetLetterDetailResDto();
+        response.setLetterId(letter.getId());
+        response.setSenderName(letter.getSender().getUserName());
+        response.setReceiverName(letter.getReceiver().getUserName());
+        response.setContent(content);
+        response.setStatus(letter.getStatus());
+        response.setCreatedAt(letter.getCreatedAt());
+        response.setScrapped(Boolean.TRUE.equals(letter.getIsScrapped()));
+        return response;
+    }
 
+}
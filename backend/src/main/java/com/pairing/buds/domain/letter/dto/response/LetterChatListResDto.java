@@ -13,5 +13,6 @@ public class LetterChatListResDto {
 
     private Integer letterCnt;
     private List<ChatUserInfoResDto> chatList;
+    private Integer nextCursor;             // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
 
 }
@@ -14,7 +14,8 @@ public class LetterDetailListResDto {
     private Integer opponentId;
     private String opponentName;
     private int currentPage;
-    private int totalPages;
+    private int totalPages;                 // 전체 개수를 조회하지 않은 경우 -1
     private List<LetterDetailResDto> letters;
+    private Integer nextCursor;             // 다음 페이지 요청 시 beforeLetterId 값 (마지막 페이지면 null)
 
 }
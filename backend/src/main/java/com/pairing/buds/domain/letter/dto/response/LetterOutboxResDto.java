@@ -0,0 +1,28 @@
+package com.pairing.buds.domain.letter.dto.response;
+
+import com.pairing.buds.domain.letter.entity.LetterOutbox;
+import com.pairing.buds.domain.letter.entity.OutboxStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LetterOutboxResDto {
+
+    private Long outboxId;
+    private OutboxStatus status;
+    private Integer letterId;       // 발송 완료 시 저장된 편지 id
+    private String failReason;      // 최종 실패 사유 (Message 이름)
+
+    public static LetterOutboxResDto toDto(LetterOutbox outbox){
+        return LetterOutboxResDto.builder()
+                .outboxId(outbox.getId())
+                .status(outbox.getStatus())
+                .letterId(outbox.getLetterId())
+                .failReason(outbox.getFailReason())
+                .build();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.pairing.buds.domain.letter.dto.response;
+
+import com.pairing.buds.domain.letter.entity.Letter;
+import lombok.*;
+
+/** 새 편지 알림 (SSE 이벤트 데이터, 본문은 포함하지 않음) **/
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LetterPushResDto {
+
+    private Integer letterId;
+    private Integer senderId;
+    private String senderName;
+    private Boolean isTagBased;
+
+    public static LetterPushResDto toDto(Letter letter){
+        return LetterPushResDto.builder()
+                .letterId(letter.getId())
+                .senderId(letter.getSender().getId())
+                .senderName(letter.getSender().getUserName())
+                .isTagBased(letter.getIsTagBased())
+                .build();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.pairing.buds.domain.letter.dto.response;
+
+import com.pairing.buds.domain.letter.entity.LetterStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LetterSearchHitResDto {
+
+    private Integer letterId;
+    private Integer opponentId;
+    private String opponentName;
+    private boolean isReceived;
+    private LetterStatus status;
+    private LocalDate createdAt;
+    private String snippet;                 // 첫 일치 위치 주변 본문
+    private List<Highlight> highlights;     // snippet 안에서 일치한 구간 [start, end)
+
+    @Getter
+    @AllArgsConstructor
+    public static class Highlight {
+        private int start;
+        private int end;
+    }
+
+}
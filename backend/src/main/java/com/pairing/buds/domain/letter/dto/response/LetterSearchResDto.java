@@ -0,0 +1,18 @@
+package com.pairing.buds.domain.letter.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LetterSearchResDto {
+
+    private String query;
+    private List<LetterSearchHitResDto> hits;
+    private Integer nextCursor;             // 다음 페이지 요청 시 beforeLetterId 값 (마지막 페이지면 null)
+
+}
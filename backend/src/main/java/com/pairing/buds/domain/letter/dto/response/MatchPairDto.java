@@ -0,0 +1,12 @@
+package com.pairing.buds.domain.letter.dto.response;
+
+/**
+ * 편지 상대 그래프 적재용 (matches 행의 유저 쌍만 조회)
+ */
+public interface MatchPairDto {
+
+    Integer getUser1();
+
+    Integer getUser2();
+
+}
@@ -0,0 +1,55 @@
+package com.pairing.buds.domain.letter.entity;
+
+import com.pairing.buds.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 letters 에서 옮겨진 편지 (LetterArchiveJob)
+ * 같은 letter_id 를 유지하므로 본문(letter_bodies), 대화 커서와 그대로 연결됨
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor
+@Table(
+        name = "letters_archive",
+        indexes = {
+                @Index(name = "idx_letters_archive_sender_receiver_id", columnList = "sender, receiver, letter_id")
+        }
+)
+public class ArchivedLetter {
+
+    @Id
+    @Column(name = "letter_id")
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "receiver", referencedColumnName = "user_id", nullable = false)
+    private User receiver;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "sender", referencedColumnName = "user_id", nullable = false)
+    private User sender;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private LetterStatus status;
+
+    @Column(name = "is_tag_based", nullable = false)
+    private Boolean isTagBased;
+
+    @Column(name = "is_scrapped")
+    private Boolean isScrapped;
+
+    @Column(name = "is_answered")
+    private Boolean isAnswered;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+}
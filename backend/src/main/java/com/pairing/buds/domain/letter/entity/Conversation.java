@@ -0,0 +1,57 @@
+package com.pairing.buds.domain.letter.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 편지 채팅 리스트용 대화 요약 (읽기 모델)
+ * - 대화 참여자마다 1행 (owner 기준으로 상대방과의 마지막 편지 정보)
+ * - 편지 발송/답장 시 같은 트랜잭션에서 갱신
+ * - 채팅 리스트는 (owner_id, last_letter_id) 인덱스로 키셋 페이지 조회
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "conversations",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_conversations_owner_opponent", columnNames = {"owner_id", "opponent_id"})
+        },
+        indexes = {
+                @Index(name = "idx_conversations_owner_last_letter", columnList = "owner_id, last_letter_id"),
+                @Index(name = "idx_conversations_last_letter", columnList = "last_letter_id")
+        }
+)
+public class Conversation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "conversation_id")
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Integer ownerId;
+
+    @Column(name = "opponent_id", nullable = false)
+    private Integer opponentId;
+
+    @Column(name = "last_letter_id", nullable = false)
+    private Integer lastLetterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_letter_status", nullable = false)
+    private LetterStatus lastLetterStatus;
+
+    /** 마지막 편지를 owner가 받았는지 (false면 owner가 보낸 편지) **/
+    @Column(name = "is_received", nullable = false)
+    private Boolean isReceived;
+
+    @Column(name = "last_letter_at", nullable = false)
+    private LocalDateTime lastLetterAt;
+
+}
@@ -10,7 +10,15 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "letters")
+@Table(
+        name = "letters",
+        indexes = {
+                // 두 유저 사이 편지 키셋 페이지 조회
+                @Index(name = "idx_letters_sender_receiver_id", columnList = "sender, receiver, letter_id"),
+                // 보관 잡 대상 범위 조회 (LetterArchiveScheduler)
+                @Index(name = "idx_letters_created_at", columnList = "created_at")
+        }
+)
 public class Letter extends CreateBaseTime {
 
     @Id
@@ -26,7 +34,8 @@ public class Letter extends CreateBaseTime {
     @JoinColumn(name = "sender", referencedColumnName = "user_id", nullable = false)
     private User sender;
 
-    @Column(name = "content")
+    /** 본문은 letter_bodies 에 저장 (LetterBodyService), 저장 전/상세 조회 후 값을 담는 용도 **/
+    @Transient
     private String content;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,118 @@
+package com.pairing.buds.domain.letter.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 편지 본문 (letters 와 1:1, 같은 letter_id 사용)
+ * 목록 조회가 본문을 읽지 않도록 letters 행에서 분리
+ * 일정 길이 이상이면 Deflate 로 압축해 저장 (압축 후 더 작을 때만)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "letter_bodies")
+public class LetterBody implements Persistable<Integer> {
+
+    /** 이 길이(바이트) 이상인 본문만 압축 **/
+    private static final int COMPRESS_THRESHOLD = 512;
+
+    @Id
+    @Column(name = "letter_id")
+    private Integer letterId;
+
+    @Lob
+    @Column(name = "content", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] content;
+
+    @Column(name = "is_compressed", nullable = false)
+    private Boolean isCompressed;
+
+    /** 키를 직접 지정하므로 저장 시 SELECT 없이 INSERT 하도록 새 엔티티 여부를 직접 관리 **/
+    @Transient
+    private boolean isNew = true;
+
+    public static LetterBody of(Integer letterId, String text) {
+        LetterBody body = new LetterBody();
+        body.letterId = letterId;
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = raw.length >= COMPRESS_THRESHOLD ? deflate(raw) : null;
+        if (compressed != null && compressed.length < raw.length) {
+            body.content = compressed;
+            body.isCompressed = true;
+        } else {
+            body.content = raw;
+            body.isCompressed = false;
+        }
+        return body;
+    }
+
+    /** 본문 문자열 (압축 해제) **/
+    public String getText() {
+        byte[] raw = Boolean.TRUE.equals(isCompressed) ? inflate(content) : content;
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Integer getId() {
+        return letterId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("손상된 편지 본문입니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 편지 본문입니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.pairing.buds.domain.letter.entity;
+
+import com.pairing.buds.common.basetime.CreateBaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 편지 발송 요청 (트랜잭셔널 아웃박스)
+ * - 요청 스레드 : 편지 토큰 차감과 같은 트랜잭션에서 PENDING 으로 저장
+ * - 워커 : 수신자 선택 → 편지 저장 → DONE(letter_id 기록) 을 한 트랜잭션으로 처리
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "letter_outbox",
+        indexes = {
+                @Index(name = "idx_letter_outbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_letter_outbox_sender", columnList = "sender_id")
+        }
+)
+public class LetterOutbox extends CreateBaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "sender_id", nullable = false)
+    private Integer senderId;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "is_tag_based", nullable = false)
+    private Boolean isTagBased;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /** 저장된 편지 id (DONE), 같은 요청이 두 번 저장되지 않도록 확인하는 기준 **/
+    @Column(name = "letter_id", unique = true)
+    private Integer letterId;
+
+    /** 실패 사유 (Message 이름) **/
+    @Column(name = "fail_reason", length = 64)
+    private String failReason;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+}
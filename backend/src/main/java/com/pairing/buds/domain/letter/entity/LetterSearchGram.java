@@ -0,0 +1,23 @@
+package com.pairing.buds.domain.letter.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 편지 검색용 유저별 bi-gram 역색인 (LetterSearchService)
+ * - PK (user_id, gram, letter_id) 순서 그대로 조회하므로 검색 비용은 전체 편지 수가 아니라 그 유저의 편지 수에 비례
+ * - 보낸 사람, 받은 사람 각각의 색인에 들어감
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor
+@Table(name = "letter_search_grams")
+public class LetterSearchGram {
+
+    @EmbeddedId
+    private LetterSearchGramId id;
+
+}
@@ -0,0 +1,26 @@
+package com.pairing.buds.domain.letter.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LetterSearchGramId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    /** 정규화된 본문의 연속 두 글자 (본문 마지막 글자는 한 글자로도 저장) **/
+    @Column(name = "gram", nullable = false, columnDefinition = "VARCHAR(2) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin")
+    private String gram;
+
+    @Column(name = "letter_id", nullable = false)
+    private Integer letterId;
+
+}
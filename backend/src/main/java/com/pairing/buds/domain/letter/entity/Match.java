@@ -5,6 +5,12 @@ import com.pairing.buds.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
+/**
+ * 편지를 주고받은 유저 쌍 (user1_id < user2_id 로 한 행만 저장)
+ * 편지 저장과 같은 트랜잭션에서 갱신되며 "이미 편지를 주고받았는지" 확인은 letters 대신 이 테이블의 기본키로 조회
+ */
 @Entity
 @Getter
 @Setter
@@ -27,4 +33,24 @@ public class Match extends CUBaseTime {
     @JoinColumn(name = "user2_id", referencedColumnName = "user_id", nullable = false)
     private User user2;
 
+    /** 마지막 편지를 보낸 유저 **/
+    @Column(name = "last_sender_id", nullable = false)
+    private Integer lastSenderId;
+
+    @Column(name = "last_sent_at", nullable = false)
+    private LocalDateTime lastSentAt;
+
+    /** user1 → user2 마지막 발신 시각 (보낸 적 없으면 null) **/
+    @Column(name = "user1_last_sent_at")
+    private LocalDateTime user1LastSentAt;
+
+    /** user2 → user1 마지막 발신 시각 (보낸 적 없으면 null) **/
+    @Column(name = "user2_last_sent_at")
+    private LocalDateTime user2LastSentAt;
+
+    /** senderId 가 상대에게 마지막으로 보낸 시각 **/
+    public LocalDateTime getLastSentAtBy(int senderId) {
+        return senderId == id.getUser1() ? user1LastSentAt : user2LastSentAt;
+    }
+
 }
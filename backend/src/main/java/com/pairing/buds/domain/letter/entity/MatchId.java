@@ -11,13 +11,21 @@ import java.io.Serializable;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@EqualsAndHashCode
 @Builder
 public class MatchId implements Serializable {
 
+    /** 두 유저 중 작은 id **/
     @Column(name = "user1_id", nullable = false)
     private Integer user1;
 
+    /** 두 유저 중 큰 id **/
     @Column(name = "user2_id", nullable = false)
     private Integer user2;
 
+    /** 순서와 무관하게 같은 쌍이면 같은 키 **/
+    public static MatchId of(int userA, int userB) {
+        return new MatchId(Math.min(userA, userB), Math.max(userA, userB));
+    }
+
 }
@@ -0,0 +1,8 @@
+package com.pairing.buds.domain.letter.entity;
+
+public enum OutboxStatus {
+    PENDING,     // 발송 대기 (재시도 대기 포함)
+    PROCESSING,  // 워커가 처리 중 (locked_until 이 지나면 다시 가져감)
+    DONE,        // 편지 저장 완료
+    FAILED       // 최종 실패 (편지 토큰 반환)
+}
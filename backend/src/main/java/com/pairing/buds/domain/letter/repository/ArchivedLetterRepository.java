@@ -0,0 +1,46 @@
+package com.pairing.buds.domain.letter.repository;
+
+import com.pairing.buds.domain.letter.entity.ArchivedLetter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedLetterRepository extends JpaRepository<ArchivedLetter, Integer> {
+
+    /** 보관된 편지 중 가장 큰 id (이보다 오래된 페이지부터 보관 테이블 조회) **/
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM ArchivedLetter a")
+    int findMaxId();
+
+    /** 두 유저 간 보관된 편지 수 (0이면 오프셋 페이지는 letters 만 조회) **/
+    @Query("""
+        SELECT COUNT(a)
+        FROM ArchivedLetter a
+        WHERE ((a.sender.id = :userId AND a.receiver.id = :opponentId)
+           OR (a.sender.id = :opponentId AND a.receiver.id = :userId))
+        """)
+    long countLettersBetweenUsers(@Param("userId") Integer userId, @Param("opponentId") Integer opponentId);
+
+    /** LetterRepository.findOneWayLettersBefore 와 같은 조건 **/
+    @Query("""
+        SELECT a
+        FROM ArchivedLetter a
+        WHERE a.sender.id = :senderId
+          AND a.receiver.id = :receiverId
+          AND a.id < :beforeLetterId
+        ORDER BY a.id DESC
+        """)
+    List<ArchivedLetter> findOneWayLettersBefore(@Param("senderId") Integer senderId,
+                                                 @Param("receiverId") Integer receiverId,
+                                                 @Param("beforeLetterId") Integer beforeLetterId,
+                                                 Pageable pageable);
+
+    @Query("SELECT a FROM ArchivedLetter a JOIN FETCH a.sender JOIN FETCH a.receiver WHERE a.id IN :letterIds")
+    List<ArchivedLetter> findAllWithUsersByIdIn(@Param("letterIds") Collection<Integer> letterIds);
+
+}
@@ -0,0 +1,109 @@
+package com.pairing.buds.domain.letter.repository;
+
+import com.pairing.buds.domain.letter.dto.response.ConversationSummaryDto;
+import com.pairing.buds.domain.letter.entity.Conversation;
+import com.pairing.buds.domain.letter.entity.LetterStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ConversationRepository extends JpaRepository<Conversation, Long> {
+
+    /** 채팅 리스트 (마지막 편지 최신순, :cursor 보다 오래된 대화만) **/
+    @Query("""
+        SELECT c.opponentId AS opponentId,
+               u.userName AS opponentName,
+               c.lastLetterId AS lastLetterId,
+               c.lastLetterAt AS lastLetterAt,
+               c.lastLetterStatus AS lastLetterStatus,
+               c.isReceived AS isReceived
+        FROM Conversation c
+        JOIN User u ON u.id = c.opponentId
+        WHERE c.ownerId = :ownerId
+          AND c.lastLetterId < :cursor
+        ORDER BY c.lastLetterId DESC
+        """)
+    List<ConversationSummaryDto> findPageByOwner(@Param("ownerId") Integer ownerId,
+                                                 @Param("cursor") Integer cursor,
+                                                 Pageable pageable);
+
+    /**
+     * 새 편지 반영 (발신자/수신자 행 동시 upsert)
+     * 순서가 뒤바뀌어 도착해도 더 최신 편지(id가 큰 편지)만 남도록 조건부 갱신, last_letter_id는 마지막에 갱신
+     * 두 행은 owner_id 가 작은 쪽부터 넣어 같은 쌍에 양방향 편지가 동시에 저장돼도 같은 순서로 잠금 (교착 방지)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO conversations (owner_id, opponent_id, last_letter_id, last_letter_status, is_received, last_letter_at)
+        VALUES (LEAST(:senderId, :receiverId), GREATEST(:senderId, :receiverId), :letterId, :status, :senderId > :receiverId, :letterAt),
+               (GREATEST(:senderId, :receiverId), LEAST(:senderId, :receiverId), :letterId, :status, :senderId < :receiverId, :letterAt)
+        ON DUPLICATE KEY UPDATE
+            last_letter_status = IF(VALUES(last_letter_id) > last_letter_id, VALUES(last_letter_status), last_letter_status),
+            is_received        = IF(VALUES(last_letter_id) > last_letter_id, VALUES(is_received), is_received),
+            last_letter_at     = IF(VALUES(last_letter_id) > last_letter_id, VALUES(last_letter_at), last_letter_at),
+            last_letter_id     = GREATEST(last_letter_id, VALUES(last_letter_id))
+        """, nativeQuery = true)
+    void upsertLatestLetter(@Param("senderId") Integer senderId,
+                            @Param("receiverId") Integer receiverId,
+                            @Param("letterId") Integer letterId,
+                            @Param("status") String status,
+                            @Param("letterAt") LocalDateTime letterAt);
+
+    /** 마지막 편지의 읽음 상태 일괄 반영 (대화 양쪽 행) **/
+    @Modifying
+    @Query("UPDATE Conversation c SET c.lastLetterStatus = :status WHERE c.lastLetterId IN :letterIds")
+    int updateStatusByLastLetterIdIn(@Param("letterIds") Collection<Integer> letterIds, @Param("status") LetterStatus status);
+
+    /** senderId → receiverId 방향 마지막 편지가 있는 대화를 읽음으로 (대화 양쪽 행) **/
+    @Modifying
+    @Query("""
+        UPDATE Conversation c
+        SET c.lastLetterStatus = com.pairing.buds.domain.letter.entity.LetterStatus.READ
+        WHERE (c.ownerId = :receiverId AND c.opponentId = :senderId AND c.isReceived = true)
+           OR (c.ownerId = :senderId AND c.opponentId = :receiverId AND c.isReceived = false)
+        """)
+    int markReadForPair(@Param("senderId") Integer senderId, @Param("receiverId") Integer receiverId);
+
+    /** 채우기 대상 마지막 letter_id **/
+    @Query(value = "SELECT COALESCE(MAX(letter_id), 0) FROM letters", nativeQuery = true)
+    int findBackfillMaxLetterId();
+
+    /**
+     * 기존 letters 로 conversations 채우기 (letter_id 구간 단위)
+     * 유저 쌍마다 구간 안 양방향 중 가장 큰 letter_id를 마지막 편지로 넣고, 이미 있는 행과는 더 큰 letter_id 쪽을 남김
+     * 새 편지 반영과 같은 순서(owner_id, opponent_id 오름차순)로 잠금
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO conversations (owner_id, opponent_id, last_letter_id, last_letter_status, is_received, last_letter_at)
+        SELECT p.owner_id, p.opponent_id, l.letter_id, l.status, l.receiver = p.owner_id, l.created_at
+        FROM (
+            SELECT x.owner_id, x.opponent_id, MAX(x.last_id) AS last_id
+            FROM (
+                SELECT sender AS owner_id, receiver AS opponent_id, MAX(letter_id) AS last_id FROM letters
+                WHERE letter_id > :afterId AND letter_id <= :toId GROUP BY sender, receiver
+                UNION ALL
+                SELECT receiver AS owner_id, sender AS opponent_id, MAX(letter_id) AS last_id FROM letters
+                WHERE letter_id > :afterId AND letter_id <= :toId GROUP BY receiver, sender
+            ) x
+            GROUP BY x.owner_id, x.opponent_id
+        ) p
+        JOIN letters l ON l.letter_id = p.last_id
+        ORDER BY p.owner_id, p.opponent_id
+        ON DUPLICATE KEY UPDATE
+            last_letter_status = IF(VALUES(last_letter_id) > conversations.last_letter_id, VALUES(last_letter_status), conversations.last_letter_status),
+            is_received        = IF(VALUES(last_letter_id) > conversations.last_letter_id, VALUES(is_received), conversations.is_received),
+            last_letter_at     = IF(VALUES(last_letter_id) > conversations.last_letter_id, VALUES(last_letter_at), conversations.last_letter_at),
+            last_letter_id     = GREATEST(conversations.last_letter_id, VALUES(last_letter_id))
+        """, nativeQuery = true)
+    int backfillFromLetters(@Param("afterId") int afterId, @Param("toId") int toId);
+
+}
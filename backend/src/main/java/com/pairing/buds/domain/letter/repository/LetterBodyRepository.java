@@ -0,0 +1,48 @@
+package com.pairing.buds.domain.letter.repository;
+
+import com.pairing.buds.domain.letter.entity.LetterBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LetterBodyRepository extends JpaRepository<LetterBody, Integer> {
+
+    /** 분리 이전 스키마의 letters.content 컬럼 존재 여부 **/
+    @Query(value = """
+        SELECT COUNT(*)
+        FROM information_schema.COLUMNS
+        WHERE TABLE_SCHEMA = DATABASE()
+          AND TABLE_NAME = 'letters'
+          AND COLUMN_NAME = 'content'
+        """, nativeQuery = true)
+    int countLegacyContentColumn();
+
+    @Query(value = "SELECT COALESCE(MAX(letter_id), 0) FROM letters WHERE content IS NOT NULL", nativeQuery = true)
+    int findMaxLegacyContentLetterId();
+
+    /** letters.content → letter_bodies 복사 (id 구간 단위, 이미 옮긴 행은 무시) **/
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO letter_bodies (letter_id, content, is_compressed)
+        SELECT l.letter_id, CAST(CONVERT(l.content USING utf8mb4) AS BINARY), false
+        FROM letters l
+        WHERE l.letter_id > :afterId
+          AND l.letter_id <= :toId
+          AND l.content IS NOT NULL
+        """, nativeQuery = true)
+    int copyLegacyContent(@Param("afterId") int afterId, @Param("toId") int toId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE letters
+        SET content = NULL
+        WHERE letter_id > :afterId
+          AND letter_id <= :toId
+          AND content IS NOT NULL
+        """, nativeQuery = true)
+    int clearLegacyContent(@Param("afterId") int afterId, @Param("toId") int toId);
+
+}
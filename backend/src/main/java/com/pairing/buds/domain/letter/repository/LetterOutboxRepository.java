@@ -0,0 +1,53 @@
+package com.pairing.buds.domain.letter.repository;
+
+import com.pairing.buds.domain.letter.entity.LetterOutbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LetterOutboxRepository extends JpaRepository<LetterOutbox, Long> {
+
+    /**
+     * 처리할 요청 id 조회 (행 잠금, 다른 노드가 잠근 행은 건너뜀)
+     * - 재시도 시각이 된 PENDING
+     * - 워커가 죽어 lease 가 만료된 PROCESSING
+     */
+    @Query(value = """
+        SELECT outbox_id
+        FROM letter_outbox
+        WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+           OR (status = 'PROCESSING' AND locked_until < :now)
+        ORDER BY outbox_id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /** 가져간 요청을 PROCESSING 으로 표시 (lease 설정, 시도 횟수 +1) **/
+    @Modifying
+    @Query("""
+        UPDATE LetterOutbox o
+        SET o.status = com.pairing.buds.domain.letter.entity.OutboxStatus.PROCESSING,
+            o.lockedUntil = :lockedUntil,
+            o.attempts = o.attempts + 1
+        WHERE o.id IN :ids
+        """)
+    int markProcessing(@Param("ids") List<Long> ids, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /** 처리 직전 행 잠금 (lease 만료로 두 워커가 같은 요청을 잡아도 한 번만 저장) **/
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM LetterOutbox o WHERE o.id IN :ids ORDER BY o.id")
+    List<LetterOutbox> lockAllByIds(@Param("ids") List<Long> ids);
+
+    Optional<LetterOutbox> findByIdAndSenderId(Long id, Integer senderId);
+
+}
@@ -3,11 +3,15 @@ package com.pairing.buds.domain.letter.repository;
 import com.pairing.buds.domain.letter.entity.Letter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +31,67 @@ public interface LetterRepository extends JpaRepository<Letter, Integer> {
                                          @Param("opponentId") Integer opponentId,
                                          Pageable pageable);
 
+    /** 위와 같은 조건, 전체 개수(COUNT) 없이 조회 **/
+    @Query("""
+        SELECT l
+        FROM Letter l
+        WHERE ((l.sender.id = :userId AND l.receiver.id = :opponentId)
+           OR (l.sender.id = :opponentId AND l.receiver.id = :userId))
+        ORDER BY l.id DESC
+        """)
+    Slice<Letter> findLetterSliceBetweenUsers(@Param("userId") Integer userId,
+                                              @Param("opponentId") Integer opponentId,
+                                              Pageable pageable);
+
+    /** 두 유저 간 편지 수 (보관 테이블과 합쳐 페이지 수 계산) **/
+    @Query("""
+        SELECT COUNT(l)
+        FROM Letter l
+        WHERE ((l.sender.id = :userId AND l.receiver.id = :opponentId)
+           OR (l.sender.id = :opponentId AND l.receiver.id = :userId))
+        """)
+    long countLettersBetweenUsers(@Param("userId") Integer userId, @Param("opponentId") Integer opponentId);
+
+    /**
+     * 두 유저 간 편지 id 최신순 오프셋 페이지 (letters + letters_archive)
+     * 스크랩/대화 마지막 편지는 보관되지 않고 letters 에 남으므로 두 테이블 id 가 섞일 수 있어 합친 뒤 정렬
+     * 방향별 (sender, receiver, letter_id) 인덱스 범위 4개를 UNION ALL
+     */
+    @Query(value = """
+        SELECT letter_id FROM (
+            SELECT letter_id FROM letters WHERE sender = :userId AND receiver = :opponentId
+            UNION ALL
+            SELECT letter_id FROM letters WHERE sender = :opponentId AND receiver = :userId
+            UNION ALL
+            SELECT letter_id FROM letters_archive WHERE sender = :userId AND receiver = :opponentId
+            UNION ALL
+            SELECT letter_id FROM letters_archive WHERE sender = :opponentId AND receiver = :userId
+        ) t
+        ORDER BY letter_id DESC
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<Integer> findLetterIdsBetweenUsersWithArchive(@Param("userId") Integer userId,
+                                                       @Param("opponentId") Integer opponentId,
+                                                       @Param("limit") int limit,
+                                                       @Param("offset") long offset);
+
+    /**
+     * 한 방향(sender → receiver) 편지 중 :beforeLetterId 보다 오래된 것 최신순
+     * (sender, receiver, letter_id) 인덱스를 그대로 역순 탐색하므로 페이지 깊이와 무관
+     */
+    @Query("""
+        SELECT l
+        FROM Letter l
+        WHERE l.sender.id = :senderId
+          AND l.receiver.id = :receiverId
+          AND l.id < :beforeLetterId
+        ORDER BY l.id DESC
+        """)
+    List<Letter> findOneWayLettersBefore(@Param("senderId") Integer senderId,
+                                         @Param("receiverId") Integer receiverId,
+                                         @Param("beforeLetterId") Integer beforeLetterId,
+                                         Pageable pageable);
+
     Optional<Letter> findFirstByReceiver_IdOrderByCreatedAtDescIdDesc(Integer receiverId);
 
 
@@ -38,4 +103,33 @@ public interface LetterRepository extends JpaRepository<Letter, Integer> {
 
 
     Optional<Letter> findTop1BySender_IdAndReceiver_IdOrReceiver_IdAndSender_IdOrderByCreatedAtDesc(Integer id, Integer integer, int receiverId, int senderId);
+
+    /** 읽음 처리 일괄 반영 (이미 읽은 편지는 건드리지 않음) **/
+    @Modifying
+    @Query("""
+        UPDATE Letter l
+        SET l.status = com.pairing.buds.domain.letter.entity.LetterStatus.READ
+        WHERE l.id IN :letterIds
+          AND l.status <> com.pairing.buds.domain.letter.entity.LetterStatus.READ
+        """)
+    int markReadByIds(@Param("letterIds") Collection<Integer> letterIds);
+
+    /** 상대에게 받은 편지 전체 읽음 처리 **/
+    @Modifying
+    @Query("""
+        UPDATE Letter l
+        SET l.status = com.pairing.buds.domain.letter.entity.LetterStatus.READ
+        WHERE l.sender.id = :senderId
+          AND l.receiver.id = :receiverId
+          AND l.status <> com.pairing.buds.domain.letter.entity.LetterStatus.READ
+        """)
+    int markReadBetween(@Param("senderId") Integer senderId, @Param("receiverId") Integer receiverId);
+
+    /** 보관 잡 대상 범위 상한 (cutoff 이전 마지막 편지 id, created_at 인덱스만 사용) **/
+    @Query(value = "SELECT letter_id FROM letters WHERE created_at < :cutoff ORDER BY created_at DESC, letter_id DESC LIMIT 1", nativeQuery = true)
+    Integer findLastLetterIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /** 발신/수신자를 함께 조회 (검색 결과 조립) **/
+    @Query("SELECT l FROM Letter l JOIN FETCH l.sender JOIN FETCH l.receiver WHERE l.id IN :letterIds")
+    List<Letter> findAllWithUsersByIdIn(@Param("letterIds") Collection<Integer> letterIds);
 }
@@ -0,0 +1,94 @@
+package com.pairing.buds.domain.letter.repository;
+
+import com.pairing.buds.domain.letter.dto.response.MatchPairDto;
+import com.pairing.buds.domain.letter.entity.Match;
+import com.pairing.buds.domain.letter.entity.MatchId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MatchRepository extends JpaRepository<Match, MatchId> {
+
+    /**
+     * 새 편지 반영 (쌍 단위 upsert)
+     * 순서가 뒤바뀌어 도착해도 더 최신 발신만 남도록 조건부 갱신, last_sent_at 은 last_sender_id 다음에 갱신
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO matches (user1_id, user2_id, last_sender_id, last_sent_at, user1_last_sent_at, user2_last_sent_at, created_at, updated_at)
+        VALUES (LEAST(:senderId, :receiverId), GREATEST(:senderId, :receiverId), :senderId, :sentAt,
+                IF(:senderId < :receiverId, :sentAt, NULL), IF(:senderId < :receiverId, NULL, :sentAt), :sentAt, :sentAt)
+        ON DUPLICATE KEY UPDATE
+            last_sender_id     = IF(VALUES(last_sent_at) >= last_sent_at, VALUES(last_sender_id), last_sender_id),
+            user1_last_sent_at = COALESCE(GREATEST(user1_last_sent_at, VALUES(user1_last_sent_at)), user1_last_sent_at, VALUES(user1_last_sent_at)),
+            user2_last_sent_at = COALESCE(GREATEST(user2_last_sent_at, VALUES(user2_last_sent_at)), user2_last_sent_at, VALUES(user2_last_sent_at)),
+            last_sent_at       = GREATEST(last_sent_at, VALUES(last_sent_at)),
+            updated_at         = VALUES(updated_at)
+        """, nativeQuery = true)
+    void upsertLetter(@Param("senderId") Integer senderId,
+                      @Param("receiverId") Integer receiverId,
+                      @Param("sentAt") LocalDateTime sentAt);
+
+    /** 채우기 대상 마지막 letter_id (letters, letters_archive) **/
+    @Query(value = """
+        SELECT GREATEST((SELECT COALESCE(MAX(letter_id), 0) FROM letters),
+                        (SELECT COALESCE(MAX(letter_id), 0) FROM letters_archive))
+        """, nativeQuery = true)
+    int findBackfillMaxLetterId();
+
+    /**
+     * 기존 letters, letters_archive 로 matches 채우기 (letter_id 구간 단위)
+     * 구간 안 방향별 마지막 발신 시각을 쌍 단위로 합친 뒤, 이미 있는 행과는 새 편지 반영과 같은 규칙으로 합침
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO matches (user1_id, user2_id, last_sender_id, last_sent_at, user1_last_sent_at, user2_last_sent_at, created_at, updated_at)
+        SELECT p.user1_id, p.user2_id,
+               IF(COALESCE(p.user1_at, '1000-01-01') >= COALESCE(p.user2_at, '1000-01-01'), p.user1_id, p.user2_id),
+               GREATEST(COALESCE(p.user1_at, p.user2_at), COALESCE(p.user2_at, p.user1_at)),
+               p.user1_at, p.user2_at, NOW(), NOW()
+        FROM (
+            SELECT LEAST(d.sender, d.receiver) AS user1_id,
+                   GREATEST(d.sender, d.receiver) AS user2_id,
+                   MAX(IF(d.sender < d.receiver, d.sent_at, NULL)) AS user1_at,
+                   MAX(IF(d.sender > d.receiver, d.sent_at, NULL)) AS user2_at
+            FROM (
+                SELECT sender, receiver, MAX(created_at) AS sent_at FROM letters
+                WHERE letter_id > :afterId AND letter_id <= :toId AND sender <> receiver GROUP BY sender, receiver
+                UNION ALL
+                SELECT sender, receiver, MAX(created_at) AS sent_at FROM letters_archive
+                WHERE letter_id > :afterId AND letter_id <= :toId AND sender <> receiver GROUP BY sender, receiver
+            ) d
+            GROUP BY user1_id, user2_id
+        ) p
+        ORDER BY p.user1_id, p.user2_id
+        ON DUPLICATE KEY UPDATE
+            last_sender_id     = IF(VALUES(last_sent_at) >= matches.last_sent_at, VALUES(last_sender_id), matches.last_sender_id),
+            user1_last_sent_at = COALESCE(GREATEST(matches.user1_last_sent_at, VALUES(user1_last_sent_at)), matches.user1_last_sent_at, VALUES(user1_last_sent_at)),
+            user2_last_sent_at = COALESCE(GREATEST(matches.user2_last_sent_at, VALUES(user2_last_sent_at)), matches.user2_last_sent_at, VALUES(user2_last_sent_at)),
+            last_sent_at       = GREATEST(matches.last_sent_at, VALUES(last_sent_at))
+        """, nativeQuery = true)
+    int backfillFromLetters(@Param("afterId") int afterId, @Param("toId") int toId);
+
+    /** 편지 상대 그래프 적재용 유저 쌍 ((user1, user2) 커서 기준 배치 조회) **/
+    @Query("""
+        SELECT m.id.user1 AS user1, m.id.user2 AS user2
+          FROM Match m
+         WHERE m.id.user1 > :afterUser1
+            OR (m.id.user1 = :afterUser1 AND m.id.user2 > :afterUser2)
+         ORDER BY m.id.user1, m.id.user2
+    """)
+    List<MatchPairDto> findPairsAfter(
+            @Param("afterUser1") Integer afterUser1,
+            @Param("afterUser2") Integer afterUser2,
+            Pageable pageable
+    );
+
+}
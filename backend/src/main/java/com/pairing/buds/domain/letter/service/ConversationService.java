@@ -0,0 +1,114 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.domain.letter.entity.Letter;
+import com.pairing.buds.domain.letter.repository.ConversationRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * conversations 읽기 모델 갱신
+ * 편지 저장과 같은 트랜잭션에서 호출해 편지와 대화 요약이 어긋나지 않도록 함
+ */
+@Service
+@Slf4j
+public class ConversationService {
+
+    private static final int BACKFILL_RANGE = 10_000;
+    /** 채우기 진행 상황 로그 간격 (구간 수) **/
+    private static final int BACKFILL_LOG_EVERY = 50;
+    private static final String BACKFILL_CURSOR_KEY = "conversations:backfill-cursor";
+    /** 채우기 완료 표시 (테이블이 비었는지로 판단하면 기동 직후 저장된 편지 한 건에 채우기가 건너뛰어짐) **/
+    private static final String BACKFILL_DONE_KEY = "conversations:backfilled";
+
+    private final ConversationRepository conversationRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "conversation-backfill");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ConversationService(ConversationRepository conversationRepository,
+                               @Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                               TransactionTemplate transactionTemplate) {
+        this.conversationRepository = conversationRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /** 새 편지 반영 (편지 저장 후 호출, id가 할당되어 있어야 함) **/
+    @Transactional
+    public void recordLetter(Letter letter) {
+        LocalDateTime letterAt = letter.getCreatedAt() != null ? letter.getCreatedAt() : LocalDateTime.now();
+        conversationRepository.upsertLatestLetter(
+                letter.getSender().getId(),
+                letter.getReceiver().getId(),
+                letter.getId(),
+                letter.getStatus().name(),
+                letterAt
+        );
+    }
+
+    /**
+     * 기존 편지로 conversations 채우기 (최초 배포 시 1회, 별도 스레드에서 id 구간별로 실행)
+     * 구간 upsert 는 더 큰 letter_id 쪽을 남기므로 새 편지 반영과 겹치거나 다시 실행해도 결과가 같음
+     * 진행 위치는 Redis에 기록해 중단되면 다음 기동 때 이어서 진행하고, 끝나면 완료 표시를 남김
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_DONE_KEY))) return;
+        backfillExecutor.execute(this::runBackfill);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        backfillExecutor.shutdownNow();
+    }
+
+    private void runBackfill() {
+        try {
+            int maxId = conversationRepository.findBackfillMaxLetterId();
+            String saved = redisTemplate.opsForValue().get(BACKFILL_CURSOR_KEY);
+            int afterId = saved == null ? 0 : Integer.parseInt(saved);
+
+            log.info("conversations 채우기 시작: letter_id {} ~ {}", afterId + 1, maxId);
+            long startedAt = System.currentTimeMillis();
+            int startId = afterId;
+            int rows = 0;
+            int ranges = 0;
+            for (; afterId < maxId; afterId += BACKFILL_RANGE) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("conversations 채우기 중지 (다음 기동 때 이어서 진행): letter_id {} 까지", afterId);
+                    return;
+                }
+                int from = afterId;
+                int to = afterId + BACKFILL_RANGE;
+                Integer count = transactionTemplate.execute(status -> conversationRepository.backfillFromLetters(from, to));
+                rows += count == null ? 0 : count;
+                redisTemplate.opsForValue().set(BACKFILL_CURSOR_KEY, String.valueOf(to));
+                if (++ranges % BACKFILL_LOG_EVERY == 0) {
+                    long percent = (long) (Math.min(to, maxId) - startId) * 100 / (maxId - startId);
+                    log.info("conversations 채우기 진행: letter_id {} / {} ({}%)", Math.min(to, maxId), maxId, percent);
+                }
+            }
+            redisTemplate.opsForValue().set(BACKFILL_DONE_KEY, "1");
+            redisTemplate.delete(BACKFILL_CURSOR_KEY);
+            log.info("conversations 채우기 완료: {}행, {}ms", rows, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("conversations 채우기 중단 (다음 기동 때 이어서 진행): {}", e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,298 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.domain.letter.dto.response.MatchPairDto;
+import com.pairing.buds.domain.letter.repository.MatchRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편지 상대 그래프 (노드 로컬, 무방향)
+ * - matches 의 유저 쌍을 CSR(compressed sparse row) 형태의 int 배열로 보관
+ *   nodeIds : 정렬된 유저 id (노드 번호 = 인덱스), adjacency[offsets[v] .. offsets[v + 1]) : v 의 상대 노드 번호 (오름차순)
+ * - 주기적으로 전체 재적재, 그 사이 새로 생긴 쌍은 다음 적재 때 반영 (추천 시 DB 에서 편지 이력을 한 번 더 거름)
+ * - 친구의 친구(2-hop) 후보를 겹치는 편지 상대 수 순으로 계산
+ */
+@Slf4j
+@Component
+public class CorrespondentGraph {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final MatchRepository matchRepository;
+    /** 2-hop 탐색 시 방문할 최대 간선 수 (상대가 많은 유저 때문에 한 요청이 길어지지 않도록 제한) **/
+    private final int maxVisits;
+
+    /** 읽기는 락 없이 스냅샷 참조 **/
+    private volatile Graph graph = Graph.EMPTY;
+    private volatile boolean ready;
+    private volatile long builtAt;
+    private volatile long loadMillis;
+    private volatile long buildMillis;
+
+    public CorrespondentGraph(MatchRepository matchRepository,
+                              @Value("${correspondent-graph.max-visits:100000}") int maxVisits) {
+        this.matchRepository = matchRepository;
+        this.maxVisits = Math.max(1_000, maxVisits);
+    }
+
+    /** 기동 완료 후 최초 적재 **/
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /** 전체 재적재 **/
+    @Scheduled(fixedDelayString = "${correspondent-graph.rebuild-millis:1800000}", initialDelayString = "${correspondent-graph.rebuild-millis:1800000}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        int[] user1 = new int[Math.max(1024, graph.edgeCount())];
+        int[] user2 = new int[user1.length];
+        int edges = 0;
+        int afterUser1 = 0;
+        int afterUser2 = 0;
+        while (true) {
+            List<MatchPairDto> batch = matchRepository.findPairsAfter(afterUser1, afterUser2, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) break;
+            if (edges + batch.size() > user1.length) {
+                int capacity = Math.max(edges + batch.size(), user1.length * 2);
+                user1 = Arrays.copyOf(user1, capacity);
+                user2 = Arrays.copyOf(user2, capacity);
+            }
+            for (MatchPairDto pair : batch) {
+                user1[edges] = pair.getUser1();
+                user2[edges] = pair.getUser2();
+                edges++;
+            }
+            afterUser1 = user1[edges - 1];
+            afterUser2 = user2[edges - 1];
+            if (batch.size() < LOAD_BATCH_SIZE) break;
+        }
+        long loaded = System.nanoTime();
+
+        Graph fresh = Graph.build(user1, user2, edges);
+        long built = System.nanoTime();
+
+        graph = fresh;
+        loadMillis = (loaded - started) / 1_000_000;
+        buildMillis = (built - loaded) / 1_000_000;
+        builtAt = System.currentTimeMillis();
+        ready = true;
+        log.info("편지 상대 그래프 적재 완료: 유저 {}명, 쌍 {}개, {}바이트, 조회 {}ms, 구성 {}ms",
+                fresh.nodeCount(), fresh.edgeCount(), fresh.sizeInBytes(), loadMillis, buildMillis);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 친구의 친구 후보 (겹치는 편지 상대 수 내림차순, 같으면 유저 id 오름차순, 최대 limit명)
+     * 이미 편지를 주고받은 상대와 자기 자신은 제외
+     * 상대가 적은 친구부터 탐색하고 방문 간선 수가 maxVisits 를 넘으면 거기서 멈춤
+     */
+    public List<Candidate> friendsOfFriends(int userId, int limit) {
+        Graph current = graph;
+        int source = Arrays.binarySearch(current.nodeIds, userId);
+        if (source < 0 || limit <= 0) return List.of();
+
+        int[] adjacency = current.adjacency;
+        int from = current.offsets[source];
+        int to = current.offsets[source + 1];
+
+        // 상대가 적은 친구 순 (친구가 많은 유저를 거치면 관계가 옅은 후보가 대량으로 들어옴)
+        long[] neighbors = new long[to - from];
+        long work = 0;
+        for (int i = from; i < to; i++) {
+            int neighbor = adjacency[i];
+            int degree = current.offsets[neighbor + 1] - current.offsets[neighbor];
+            neighbors[i - from] = ((long) degree << 32) | neighbor;
+            work += degree;
+        }
+        Arrays.sort(neighbors);
+
+        IntCounter counts = new IntCounter((int) Math.min(work, maxVisits));
+        int visits = 0;
+        for (long packed : neighbors) {
+            int neighbor = (int) packed;
+            for (int j = current.offsets[neighbor]; j < current.offsets[neighbor + 1] && visits < maxVisits; j++, visits++) {
+                int candidate = adjacency[j];
+                if (candidate != source) counts.increment(candidate);
+            }
+            if (visits >= maxVisits) break;
+        }
+
+        // (공통 상대 수, 노드 번호 역순) 으로 묶어 정렬 (노드 번호 순 = 유저 id 순)
+        long[] ranked = new long[counts.size()];
+        int n = 0;
+        for (int slot = 0; slot < counts.keys.length; slot++) {
+            int candidate = counts.keys[slot] - 1;
+            if (candidate < 0) continue;
+            if (Arrays.binarySearch(adjacency, from, to, candidate) >= 0) continue;
+            ranked[n++] = ((long) counts.values[slot] << 32) | (Integer.MAX_VALUE - candidate);
+        }
+        Arrays.sort(ranked, 0, n);
+
+        List<Candidate> result = new ArrayList<>(Math.min(limit, n));
+        for (int i = n - 1; i >= 0 && result.size() < limit; i--) {
+            int candidate = Integer.MAX_VALUE - (int) ranked[i];
+            result.add(new Candidate(current.nodeIds[candidate], (int) (ranked[i] >>> 32)));
+        }
+        return result;
+    }
+
+    /** 유저 수 / 쌍 수 / 메모리 사용량 / 적재 시간 (actuator) **/
+    public Map<String, Object> stats() {
+        Graph current = graph;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("builtAt", builtAt);
+        stats.put("nodes", current.nodeCount());
+        stats.put("edges", current.edgeCount());
+        stats.put("bytes", current.sizeInBytes());
+        stats.put("bytesPerEdge", current.edgeCount() == 0 ? 0 : (double) current.sizeInBytes() / current.edgeCount());
+        stats.put("loadMillis", loadMillis);
+        stats.put("buildMillis", buildMillis);
+        stats.put("rebuildMillis", loadMillis + buildMillis);
+        return stats;
+    }
+
+    /** 친구의 친구 후보 **/
+    @Getter
+    @AllArgsConstructor
+    public static class Candidate {
+        private final int userId;
+        /** 겹치는 편지 상대 수 **/
+        private final int sharedCount;
+    }
+
+    private static final class Graph {
+
+        private static final Graph EMPTY = new Graph(new int[0], new int[1], new int[0]);
+
+        private final int[] nodeIds;
+        private final int[] offsets;
+        private final int[] adjacency;
+
+        private Graph(int[] nodeIds, int[] offsets, int[] adjacency) {
+            this.nodeIds = nodeIds;
+            this.offsets = offsets;
+            this.adjacency = adjacency;
+        }
+
+        /** 유저 쌍 목록으로 구성 (user1, user2 배열은 노드 번호로 덮어씀) **/
+        private static Graph build(int[] user1, int[] user2, int edges) {
+            int[] all = new int[edges * 2];
+            System.arraycopy(user1, 0, all, 0, edges);
+            System.arraycopy(user2, 0, all, edges, edges);
+            Arrays.sort(all);
+            int nodes = 0;
+            for (int i = 0; i < all.length; i++) {
+                if (i == 0 || all[i] != all[i - 1]) all[nodes++] = all[i];
+            }
+            int[] nodeIds = Arrays.copyOf(all, nodes);
+
+            int[] offsets = new int[nodes + 1];
+            for (int e = 0; e < edges; e++) {
+                user1[e] = Arrays.binarySearch(nodeIds, user1[e]);
+                user2[e] = Arrays.binarySearch(nodeIds, user2[e]);
+                offsets[user1[e] + 1]++;
+                offsets[user2[e] + 1]++;
+            }
+            for (int v = 0; v < nodes; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            // 정렬에 쓴 배열을 재사용 (모든 칸을 다시 채움)
+            int[] adjacency = all;
+            int[] next = Arrays.copyOf(offsets, nodes);
+            for (int e = 0; e < edges; e++) {
+                adjacency[next[user1[e]]++] = user2[e];
+                adjacency[next[user2[e]]++] = user1[e];
+            }
+            for (int v = 0; v < nodes; v++) {
+                Arrays.sort(adjacency, offsets[v], offsets[v + 1]);
+            }
+            return new Graph(nodeIds, offsets, adjacency);
+        }
+
+        private int nodeCount() {
+            return nodeIds.length;
+        }
+
+        private int edgeCount() {
+            return adjacency.length / 2;
+        }
+
+        private long sizeInBytes() {
+            return 4L * (nodeIds.length + offsets.length + adjacency.length);
+        }
+    }
+
+    /** 노드 번호별 횟수 (개방 주소법, 키는 노드 번호 + 1 로 저장해 0을 빈 칸으로 사용) **/
+    private static final class IntCounter {
+
+        private int[] keys;
+        private int[] values;
+        private int size;
+
+        private IntCounter(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+        }
+
+        private void increment(int key) {
+            if (size * 2 >= keys.length) grow();
+            int mask = keys.length - 1;
+            int slot = slot(key + 1, mask);
+            while (keys[slot] != 0 && keys[slot] != key + 1) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key + 1;
+                size++;
+            }
+            values[slot]++;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == 0) continue;
+                int slot = slot(oldKeys[i], mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private static int slot(int storedKey, int mask) {
+            int h = storedKey * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.pairing.buds.domain.letter.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 편지 상대 그래프 상태 조회 (/actuator/correspondentgraph)
+ * 노출하려면 management.endpoints.web.exposure.include 에 correspondentgraph 추가
+ */
+@Component
+@Endpoint(id = "correspondentgraph")
+@RequiredArgsConstructor
+public class CorrespondentGraphEndpoint {
+
+    private final CorrespondentGraph correspondentGraph;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return correspondentGraph.stats();
+    }
+
+}
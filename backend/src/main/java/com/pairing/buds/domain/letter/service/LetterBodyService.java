@@ -0,0 +1,90 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.domain.letter.entity.Letter;
+import com.pairing.buds.domain.letter.entity.LetterBody;
+import com.pairing.buds.domain.letter.repository.LetterBodyRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 편지 본문 저장/조회 (letter_bodies)
+ * 본문은 상세 조회에서만 읽고, Letter.content 는 저장 전/조회 후 값을 담는 용도(컬럼 아님)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LetterBodyService {
+
+    /** 기존 letters.content 이관 시 한 번에 처리할 id 구간 **/
+    private static final int MIGRATION_RANGE = 5_000;
+
+    private final LetterBodyRepository letterBodyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 편지 저장 직후 호출 (id가 할당되어 있어야 함) **/
+    @Transactional
+    public void save(Letter letter) {
+        letterBodyRepository.save(LetterBody.of(letter.getId(), letter.getContent()));
+    }
+
+    /** 편지 한 건의 본문 채우기 **/
+    public Letter fillContent(Letter letter) {
+        letter.setContent(findContent(letter.getId()));
+        return letter;
+    }
+
+    public String findContent(int letterId) {
+        return letterBodyRepository.findById(letterId)
+                .map(LetterBody::getText)
+                .orElse(null);
+    }
+
+    /** 여러 편지의 본문을 한 번에 채우기 **/
+    public List<Letter> fillContents(List<Letter> letters) {
+        if (letters.isEmpty()) return letters;
+        List<Integer> letterIds = letters.stream().map(Letter::getId).toList();
+        Map<Integer, String> contents = findContents(letterIds);
+        letters.forEach(letter -> letter.setContent(contents.get(letter.getId())));
+        return letters;
+    }
+
+    public Map<Integer, String> findContents(Collection<Integer> letterIds) {
+        return letterBodyRepository.findAllById(letterIds).stream()
+                .collect(Collectors.toMap(LetterBody::getLetterId, LetterBody::getText));
+    }
+
+    /**
+     * 분리 이전에 letters.content 에 저장된 본문을 letter_bodies 로 이관 (기동 시 1회)
+     * id 구간별로 복사 후 원본을 비우므로 중간에 중단되어도 다음 기동 때 이어서 진행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyContent() {
+        if (letterBodyRepository.countLegacyContentColumn() == 0) return;
+        int maxId = letterBodyRepository.findMaxLegacyContentLetterId();
+        if (maxId == 0) return;
+
+        int moved = 0;
+        for (int afterId = 0; afterId < maxId; afterId += MIGRATION_RANGE) {
+            int from = afterId;
+            int to = afterId + MIGRATION_RANGE;
+            Integer copied = transactionTemplate.execute(status -> {
+                int count = letterBodyRepository.copyLegacyContent(from, to);
+                letterBodyRepository.clearLegacyContent(from, to);
+                return count;
+            });
+            moved += copied == null ? 0 : copied;
+        }
+        log.info("편지 본문 이관 완료: {}건", moved);
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.common.exception.ApiException;
+import com.pairing.buds.common.response.Message;
+import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.common.utils.BadWordFilter;
+import com.pairing.buds.domain.letter.dto.request.SendLetterReqDto;
+import com.pairing.buds.domain.letter.dto.response.LetterOutboxResDto;
+import com.pairing.buds.domain.letter.entity.Letter;
+import com.pairing.buds.domain.letter.entity.LetterOutbox;
+import com.pairing.buds.domain.letter.entity.OutboxStatus;
+import com.pairing.buds.domain.letter.repository.LetterOutboxRepository;
+import com.pairing.buds.domain.letter.repository.LetterRepository;
+import com.pairing.buds.domain.user.entity.Tag;
+import com.pairing.buds.domain.user.entity.TagType;
+import com.pairing.buds.domain.user.entity.User;
+import com.pairing.buds.domain.user.repository.UserRepository;
+import com.pairing.buds.domain.user.service.LetterTokenService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비동기 편지 발송 (트랜잭셔널 아웃박스)
+ * - 접수 : 검증 → 편지 토큰 차감 → 아웃박스 저장 (한 트랜잭션), 수신자 선택/편지 저장은 워커에서 처리
+ * - 처리 : 아웃박스 행을 잠근 뒤 PROCESSING 상태이고 letter_id가 비어 있을 때만 저장 → 재시도해도 편지는 한 번만 저장
+ * - 최종 실패 시 차감했던 편지 토큰 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LetterOutboxService {
+
+    /** 최대 시도 횟수 (초과 시 FAILED) **/
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final LetterOutboxRepository letterOutboxRepository;
+    private final LetterRepository letterRepository;
+    private final UserRepository userRepository;
+    private final BadWordFilter badWordFilter;
+    private final LetterTokenService letterTokenService;
+    private final ReceiverSelector receiverSelector;
+    private final ConversationService conversationService;
+    private final MatchService matchService;
+    private final LetterPushService letterPushService;
+    private final LetterBodyService letterBodyService;
+    private final LetterSearchService letterSearchService;
+
+    /** 비동기 발송 접수 **/
+    @Transactional
+    public LetterOutboxResDto enqueue(Integer userId, SendLetterReqDto dto) {
+        User sender = userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException(StatusCode.BAD_REQUEST, Message.USER_NOT_FOUND));
+
+        // 욕설 필터링
+        if(badWordFilter.isBadWord(dto.getContent())){
+            throw new ApiException(StatusCode.BAD_REQUEST, Message.ARGUMENT_NOT_PROPER);
+        }
+
+        // sender가 태그를 선택하지 않은 경우
+        boolean isTagBased = Boolean.TRUE.equals(dto.getIsTagBased());
+        if (isTagBased && sender.getTags().isEmpty()) {
+            throw new ApiException(StatusCode.BAD_REQUEST, Message.TAGS_NOT_SELECTED);
+        }
+
+        // 편지 토큰 차감 (아웃박스 저장과 같은 트랜잭션)
+        letterTokenService.consume(userId);
+
+        LetterOutbox outbox = LetterOutbox.builder()
+                .senderId(userId)
+                .content(dto.getContent())
+                .isTagBased(isTagBased)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        letterOutboxRepository.save(outbox);
+        return LetterOutboxResDto.toDto(outbox);
+    }
+
+    /** 발송 요청 상태 조회 **/
+    public LetterOutboxResDto getStatus(Integer userId, Long outboxId) {
+        LetterOutbox outbox = letterOutboxRepository.findByIdAndSenderId(outboxId, userId)
+                .orElseThrow(() -> new ApiException(StatusCode.NOT_FOUND, Message.LETTER_OUTBOX_NOT_FOUND));
+        return LetterOutboxResDto.toDto(outbox);
+    }
+
+    /** 처리할 요청을 최대 limit개 가져와 lease 동안 PROCESSING 으로 표시 **/
+    @Transactional
+    public List<Long> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = letterOutboxRepository.findClaimableIds(now, limit);
+        if (!ids.isEmpty()) {
+            letterOutboxRepository.markProcessing(ids, now.plus(lease));
+        }
+        return ids;
+    }
+
+    /** 가져간 요청을 한 트랜잭션으로 발송 (커밋 1회) **/
+    @Transactional
+    public void deliverBatch(List<Long> ids) {
+        for (LetterOutbox outbox : letterOutboxRepository.lockAllByIds(ids)) {
+            deliver(outbox);
+        }
+    }
+
+    /** 한 건 발송 (묶음 처리 중 예외가 나면 건별로 다시 처리) **/
+    @Transactional
+    public void deliverOne(Long id) {
+        for (LetterOutbox outbox : letterOutboxRepository.lockAllByIds(List.of(id))) {
+            deliver(outbox);
+        }
+    }
+
+    /** 처리 중 예외 : 재시도 대기 (지수 백오프), 최대 시도 횟수를 넘으면 최종 실패 **/
+    @Transactional
+    public void recordFailure(Long id, RuntimeException cause) {
+        for (LetterOutbox outbox : letterOutboxRepository.lockAllByIds(List.of(id))) {
+            if (outbox.getStatus() != OutboxStatus.PROCESSING) continue;
+            if (outbox.getAttempts() >= MAX_ATTEMPTS) {
+                log.error("편지 발송 최종 실패: outboxId={}", id, cause);
+                fail(outbox, Message.SERVER_ERROR.name());
+                continue;
+            }
+            long backoffSeconds = 1L << Math.min(outbox.getAttempts(), 6);
+            outbox.setStatus(OutboxStatus.PENDING);
+            outbox.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+            outbox.setLockedUntil(null);
+            log.warn("편지 발송 실패, {}초 후 재시도: outboxId={}, 시도={}", backoffSeconds, id, outbox.getAttempts(), cause);
+        }
+    }
+
+    private void deliver(LetterOutbox outbox) {
+        // 다른 워커가 이미 처리한 요청
+        if (outbox.getStatus() != OutboxStatus.PROCESSING || outbox.getLetterId() != null) return;
+
+        User sender = userRepository.findById(outbox.getSenderId()).orElse(null);
+        if (sender == null || !Boolean.TRUE.equals(sender.getIsActive())) {
+            fail(outbox, Message.USER_NOT_FOUND.name());
+            return;
+        }
+
+        List<TagType> senderTagTypes = null;
+        if (outbox.getIsTagBased()) {
+            senderTagTypes = sender.getTags().stream()
+                    .map(Tag::getTagType)
+                    .toList();
+            if (senderTagTypes.isEmpty()) {
+                fail(outbox, Message.TAGS_NOT_SELECTED.name());
+                return;
+            }
+        }
+
+        User receiver;
+        try {
+            receiver = receiverSelector.select(sender.getId(), senderTagTypes, LocalDateTime.now().minusMonths(1));
+        } catch (ApiException e) {
+            fail(outbox, e.getMessageEnum().name());
+            return;
+        }
+
+        Letter letter = new Letter();
+        letter.setSender(sender);
+        letter.setReceiver(receiver);
+        letter.setContent(outbox.getContent());
+        letter.setIsTagBased(outbox.getIsTagBased());
+        letterRepository.save(letter);
+        letterBodyService.save(letter);
+        letterSearchService.index(letter);
+        conversationService.recordLetter(letter);
+        matchService.recordLetter(letter);
+        letterPushService.notifyNewLetter(letter);
+
+        outbox.setStatus(OutboxStatus.DONE);
+        outbox.setLetterId(letter.getId());
+        outbox.setLockedUntil(null);
+        outbox.setProcessedAt(LocalDateTime.now());
+    }
+
+    // 최종 실패 처리 + 편지 토큰 반환 (같은 트랜잭션)
+    private void fail(LetterOutbox outbox, String reason) {
+        outbox.setStatus(OutboxStatus.FAILED);
+        outbox.setFailReason(reason);
+        outbox.setLockedUntil(null);
+        outbox.setProcessedAt(LocalDateTime.now());
+        letterTokenService.refund(outbox.getSenderId());
+    }
+
+}
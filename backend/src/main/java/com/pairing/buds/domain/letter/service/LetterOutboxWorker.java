@@ -0,0 +1,106 @@
+package com.pairing.buds.domain.letter.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 편지 아웃박스 처리 워커
+ * - 스케줄러가 빈 워커 수만큼 묶음(batch-size)을 가져와 전용 스레드 풀에 넘김 → API 스레드와 별도로 처리량 조절
+ * - 묶음은 한 트랜잭션으로 처리하고, 묶음 안에서 예외가 나면 건별로 다시 처리해 실패한 건만 재시도 대기
+ */
+@Slf4j
+@Component
+public class LetterOutboxWorker {
+
+    private final LetterOutboxService letterOutboxService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int workers;
+    private final Duration lease;
+    private final ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LetterOutboxWorker(LetterOutboxService letterOutboxService,
+                              @Value("${letter.outbox.enabled:true}") boolean enabled,
+                              @Value("${letter.outbox.batch-size:50}") int batchSize,
+                              @Value("${letter.outbox.workers:4}") int workers,
+                              @Value("${letter.outbox.lease-millis:60000}") long leaseMillis) {
+        this.letterOutboxService = letterOutboxService;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.workers = Math.max(1, workers);
+        this.lease = Duration.ofMillis(leaseMillis);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                this.workers, this.workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "letter-outbox-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${letter.outbox.poll-millis:200}")
+    public void poll() {
+        if (!enabled) return;
+        try {
+            while (inFlight.get() < workers) {
+                List<Long> ids = letterOutboxService.claim(batchSize, lease);
+                if (ids.isEmpty()) return;
+                inFlight.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        process(ids);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            log.error("편지 아웃박스 조회 실패", e);
+        }
+    }
+
+    private void process(List<Long> ids) {
+        try {
+            letterOutboxService.deliverBatch(ids);
+        } catch (RuntimeException e) {
+            log.warn("편지 묶음 발송 실패, 건별로 재처리합니다. size={}", ids.size(), e);
+            for (Long id : ids) {
+                try {
+                    letterOutboxService.deliverOne(id);
+                } catch (RuntimeException ex) {
+                    letterOutboxService.recordFailure(id, ex);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pairing.buds.common.exception.ApiException;
+import com.pairing.buds.common.response.Message;
+import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.common.utils.TransactionUtils;
+import com.pairing.buds.domain.letter.dto.response.LetterPushResDto;
+import com.pairing.buds.domain.letter.entity.Letter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 편지 실시간 알림 (SSE)
+ * - 편지 저장 트랜잭션 커밋 후 Redis pub/sub 으로 발행 → 수신자가 연결된 노드에서만 전송
+ * - 연결마다 고정 크기 큐, 가득 차면(느린 클라이언트) 연결을 끊고 재연결 시 목록 API로 다시 맞추도록 함
+ * - 유저별 / 노드 전체 연결 수 상한
+ * 알림에는 편지 id와 보낸 사람만 담고, 읽음 처리는 기존처럼 상세 조회 시점에 수행
+ */
+@Slf4j
+@Component
+public class LetterPushService {
+
+    /** 메시지 형식 "receiverId:{json}" **/
+    private static final String CHANNEL = "letter-push";
+    private static final String EVENT_LETTER = "letter";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxPerUser;
+    private final int maxConnections;
+    private final int queueCapacity;
+    private final ExecutorService sender;
+
+    private final Map<Integer, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    public LetterPushService(@Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             ObjectMapper objectMapper,
+                             @Value("${letter.push.timeout-millis:1800000}") long timeoutMillis,
+                             @Value("${letter.push.max-per-user:3}") int maxPerUser,
+                             @Value("${letter.push.max-connections:10000}") int maxConnections,
+                             @Value("${letter.push.queue-capacity:16}") int queueCapacity,
+                             @Value("${letter.push.send-threads:2}") int sendThreads) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.maxPerUser = Math.max(1, maxPerUser);
+        this.maxConnections = Math.max(1, maxConnections);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        AtomicInteger seq = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, sendThreads), r -> {
+            Thread t = new Thread(r, "letter-push-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) ->
+                onMessage(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+    }
+
+    /** SSE 연결 등록 **/
+    public SseEmitter connect(int userId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new ApiException(StatusCode.SERVICE_UNAVAILABLE, Message.SERVER_BUSY);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter, queueCapacity);
+        Set<Connection> userConnections = connections.compute(userId, (k, set) -> {
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            set.add(connection);
+            return set;
+        });
+
+        // 유저별 상한 초과 시 가장 오래된 연결 종료 (탭을 여러 번 연 경우)
+        if (userConnections.size() > maxPerUser) {
+            userConnections.stream()
+                    .filter(c -> c != connection)
+                    .min((a, b) -> Long.compare(a.openedAt, b.openedAt))
+                    .ifPresent(this::close);
+        }
+
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(e -> unregister(connection));
+
+        enqueue(connection, SseEmitter.event().name("connected").data("ok"));
+        return emitter;
+    }
+
+    /** 새 편지 알림 (편지 저장 트랜잭션 커밋 후 발행) **/
+    public void notifyNewLetter(Letter letter) {
+        int receiverId = letter.getReceiver().getId();
+        String body;
+        try {
+            body = receiverId + ":" + objectMapper.writeValueAsString(LetterPushResDto.toDto(letter));
+        } catch (JsonProcessingException e) {
+            log.warn("편지 알림 직렬화 실패: letterId={}", letter.getId(), e);
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, body);
+            } catch (RuntimeException e) {
+                // Redis 장애 시 최소한 같은 노드에 연결된 수신자에게는 전달
+                log.warn("편지 알림 발행 실패, 로컬 연결에만 전달합니다.", e);
+                onMessage(body);
+            }
+        });
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    /** 프록시/로드밸런서 유휴 타임아웃 방지 + 끊긴 연결 정리 **/
+    @Scheduled(fixedDelayString = "${letter.push.heartbeat-millis:25000}")
+    public void heartbeat() {
+        for (Set<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                enqueue(connection, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(set -> set.forEach(this::close));
+        sender.shutdownNow();
+    }
+
+    // 다른 노드(자기 자신 포함)에서 발행된 알림 수신
+    private void onMessage(String body) {
+        int sep = body.indexOf(':');
+        if (sep <= 0) return;
+        int receiverId;
+        try {
+            receiverId = Integer.parseInt(body.substring(0, sep));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 편지 알림 메시지: {}", body);
+            return;
+        }
+        Set<Connection> userConnections = connections.get(receiverId);
+        if (userConnections == null || userConnections.isEmpty()) return;
+
+        String json = body.substring(sep + 1);
+        for (Connection connection : userConnections) {
+            enqueue(connection, SseEmitter.event()
+                    .name(EVENT_LETTER)
+                    .data(json, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed.get()) return;
+        if (!connection.queue.offer(event)) {
+            // 큐가 가득 참 : 클라이언트가 읽지 못하는 상태이므로 메모리를 더 쓰지 않고 연결 종료
+            log.debug("SSE 큐 초과로 연결 종료: userId={}", connection.userId);
+            close(connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(Connection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(connection));
+        }
+    }
+
+    // 연결당 한 스레드만 전송하도록 draining 플래그로 직렬화
+    private void drain(Connection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = connection.queue.poll()) != null) {
+                if (connection.closed.get()) return;
+                connection.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            unregister(connection);
+            connection.emitter.completeWithError(e);
+        } finally {
+            connection.draining.set(false);
+        }
+        if (!connection.queue.isEmpty() && !connection.closed.get()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void close(Connection connection) {
+        if (unregister(connection)) {
+            connection.emitter.complete();
+        }
+    }
+
+    private boolean unregister(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) return false;
+        connection.queue.clear();
+        connectionCount.decrementAndGet();
+        connections.computeIfPresent(connection.userId, (k, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+        return true;
+    }
+
+    private static final class Connection {
+        private final int userId;
+        private final SseEmitter emitter;
+        private final long openedAt = System.nanoTime();
+        private final Queue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Connection(int userId, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.pairing.buds.domain.letter.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 편지 읽음 처리 write-behind 버퍼
+ * - 조회 시에는 Redis set 에 편지 id만 추가 (조회 API는 읽기 전용)
+ * - 주기적으로 묶음 단위 UPDATE ... WHERE letter_id IN (...) 후 set 에서 제거
+ * - 반영 전 조회는 set 을 함께 확인해 읽음으로 보정
+ * 여러 노드가 같은 id를 동시에 반영해도 UPDATE 가 멱등이므로 문제 없음
+ */
+@Slf4j
+@Component
+public class LetterReadBuffer {
+
+    private static final String PENDING_KEY = "letter-read:pending";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LetterReadService letterReadService;
+    private final int batchSize;
+    private final int maxBatchesPerFlush;
+
+    public LetterReadBuffer(@Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                            LetterReadService letterReadService,
+                            @Value("${letter.read-buffer.batch-size:500}") int batchSize,
+                            @Value("${letter.read-buffer.max-batches:20}") int maxBatchesPerFlush) {
+        this.redisTemplate = redisTemplate;
+        this.letterReadService = letterReadService;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerFlush = Math.max(1, maxBatchesPerFlush);
+    }
+
+    /** 읽음 기록 (Redis 장애 시 바로 DB 반영) **/
+    public void markRead(int letterId) {
+        try {
+            redisTemplate.opsForSet().add(PENDING_KEY, String.valueOf(letterId));
+        } catch (RuntimeException e) {
+            log.warn("읽음 버퍼 기록 실패, DB에 바로 반영합니다. letterId={}", letterId, e);
+            letterReadService.applyReads(List.of(letterId));
+        }
+    }
+
+    /** 아직 DB에 반영되지 않은 읽음 처리 중 ids 에 포함된 것 **/
+    public Set<Integer> pendingAmong(Collection<Integer> letterIds) {
+        if (letterIds.isEmpty()) return Set.of();
+        Object[] members = letterIds.stream().map(String::valueOf).toArray();
+        try {
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(PENDING_KEY, members);
+            if (result == null) return Set.of();
+            Set<Integer> pending = new HashSet<>();
+            result.forEach((member, isMember) -> {
+                if (Boolean.TRUE.equals(isMember)) pending.add(Integer.valueOf(member.toString()));
+            });
+            return pending;
+        } catch (RuntimeException e) {
+            log.warn("읽음 버퍼 조회 실패", e);
+            return Set.of();
+        }
+    }
+
+    public boolean isPending(int letterId) {
+        return !pendingAmong(List.of(letterId)).isEmpty();
+    }
+
+    /** 버퍼에 모인 읽음 처리를 DB에 반영 **/
+    @Scheduled(fixedDelayString = "${letter.read-buffer.flush-millis:5000}")
+    public void flush() {
+        try {
+            for (int i = 0; i < maxBatchesPerFlush; i++) {
+                Set<String> members = redisTemplate.opsForSet().distinctRandomMembers(PENDING_KEY, batchSize);
+                if (members == null || members.isEmpty()) return;
+
+                List<Integer> letterIds = new ArrayList<>(members.size());
+                for (String member : members) {
+                    letterIds.add(Integer.valueOf(member));
+                }
+                letterReadService.applyReads(letterIds);
+                // DB 반영 후 제거 → 반영 전까지는 조회 시 보정 가능
+                redisTemplate.opsForSet().remove(PENDING_KEY, members.toArray());
+                if (members.size() < batchSize) return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("읽음 버퍼 반영 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.domain.letter.entity.LetterStatus;
+import com.pairing.buds.domain.letter.repository.ConversationRepository;
+import com.pairing.buds.domain.letter.repository.LetterRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * 편지 읽음 상태 DB 반영 (letters + conversations 읽기 모델)
+ */
+@Service
+@RequiredArgsConstructor
+public class LetterReadService {
+
+    private final LetterRepository letterRepository;
+    private final ConversationRepository conversationRepository;
+
+    /** 버퍼에 모인 읽음 처리 일괄 반영 **/
+    @Transactional
+    public int applyReads(Collection<Integer> letterIds) {
+        if (letterIds.isEmpty()) return 0;
+        int updated = letterRepository.markReadByIds(letterIds);
+        conversationRepository.updateStatusByLastLetterIdIn(letterIds, LetterStatus.READ);
+        return updated;
+    }
+
+    /** 상대에게 받은 편지 전체 읽음 처리 **/
+    @Transactional
+    public int markConversationRead(Integer userId, Integer opponentId) {
+        int updated = letterRepository.markReadBetween(opponentId, userId);
+        conversationRepository.markReadForPair(opponentId, userId);
+        return updated;
+    }
+
+}
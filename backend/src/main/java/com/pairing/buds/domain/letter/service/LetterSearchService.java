@@ -0,0 +1,378 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.common.exception.ApiException;
+import com.pairing.buds.common.response.Message;
+import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.common.utils.HangulNormalizer;
+import com.pairing.buds.domain.letter.dto.response.LetterSearchHitResDto;
+import com.pairing.buds.domain.letter.dto.response.LetterSearchResDto;
+import com.pairing.buds.domain.letter.entity.ArchivedLetter;
+import com.pairing.buds.domain.letter.entity.Letter;
+import com.pairing.buds.domain.letter.entity.LetterStatus;
+import com.pairing.buds.domain.letter.repository.ArchivedLetterRepository;
+import com.pairing.buds.domain.letter.repository.LetterRepository;
+import com.pairing.buds.domain.user.entity.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 내 편지(보낸 편지 + 받은 편지) 본문 검색
+ * - 본문을 HangulNormalizer 로 정규화한 뒤 연속 두 글자(bi-gram) 단위로 letter_search_grams 에 색인 (보낸 사람, 받은 사람 각각)
+ * - 검색어의 bi-gram 을 모두 가진 편지를 letter_id 역순으로 후보로 뽑고, 본문에 검색어가 연속으로 있는지 다시 확인
+ * - 한 글자 검색어는 그 글자로 시작하는 gram 접두 범위 조회 (본문 마지막 글자도 한 글자 gram 으로 색인)
+ * 편지 저장 시 같은 트랜잭션에서 색인하고, 색인 이전에 저장된 편지는 기동 후 별도 스레드에서 id 구간별로 채움
+ */
+@Slf4j
+@Service
+public class LetterSearchService {
+
+    /** 정규화 후 검색어 최대 길이 **/
+    private static final int MAX_QUERY_LENGTH = 30;
+    private static final int MAX_PAGE_SIZE = 50;
+    /** 한 페이지를 채우기 위한 후보 조회 반복 상한 (bi-gram 은 모두 있지만 연속되지 않은 후보가 많은 경우) **/
+    private static final int MAX_ROUNDS = 4;
+    /** snippet 에 포함할 일치 구간 앞뒤 글자 수 **/
+    private static final int SNIPPET_MARGIN = 30;
+    private static final int INSERT_BATCH_ROWS = 500;
+    private static final int BACKFILL_RANGE = 2_000;
+    /** 채우기 진행 상황 로그 간격 (구간 수) **/
+    private static final int BACKFILL_LOG_EVERY = 50;
+    private static final String BACKFILL_CURSOR_KEY = "letter-search:backfill-cursor";
+
+    private static final String CANDIDATE_SQL = """
+        SELECT letter_id
+        FROM letter_search_grams
+        WHERE user_id = :userId
+          AND gram IN (:grams)
+          AND letter_id < :before
+        GROUP BY letter_id
+        HAVING COUNT(*) = :gramCount
+        ORDER BY letter_id DESC
+        LIMIT :limit
+        """;
+    // 정규화된 검색어는 글자/숫자만 남으므로 LIKE 특수문자(%, _) 이스케이프 불필요
+    private static final String PREFIX_CANDIDATE_SQL = """
+        SELECT DISTINCT letter_id
+        FROM letter_search_grams
+        WHERE user_id = :userId
+          AND gram LIKE :prefix
+          AND letter_id < :before
+        ORDER BY letter_id DESC
+        LIMIT :limit
+        """;
+    private static final String BACKFILL_SOURCE_SQL = """
+        SELECT letter_id, sender, receiver FROM letters WHERE letter_id > :afterId AND letter_id <= :toId
+        UNION ALL
+        SELECT letter_id, sender, receiver FROM letters_archive WHERE letter_id > :afterId AND letter_id <= :toId
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final LetterRepository letterRepository;
+    private final ArchivedLetterRepository archivedLetterRepository;
+    private final LetterBodyService letterBodyService;
+    private final LetterReadBuffer letterReadBuffer;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillEnabled;
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "letter-search-backfill");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public LetterSearchService(NamedParameterJdbcTemplate jdbcTemplate,
+                               LetterRepository letterRepository,
+                               ArchivedLetterRepository archivedLetterRepository,
+                               LetterBodyService letterBodyService,
+                               LetterReadBuffer letterReadBuffer,
+                               @Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${letter.search.backfill-enabled:true}") boolean backfillEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.letterRepository = letterRepository;
+        this.archivedLetterRepository = archivedLetterRepository;
+        this.letterBodyService = letterBodyService;
+        this.letterReadBuffer = letterReadBuffer;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.backfillEnabled = backfillEnabled;
+    }
+
+    /** 편지 저장 직후 호출 (id, 본문이 채워져 있어야 함) **/
+    public void index(Letter letter) {
+        List<Object[]> rows = new ArrayList<>();
+        collectRows(rows, letter.getId(), letter.getSender().getId(), letter.getReceiver().getId(), letter.getContent());
+        insertRows(rows);
+    }
+
+    /**
+     * 검색 (letter_id 역순 키셋 페이지, beforeLetterId = 이전 응답의 nextCursor)
+     * 후보 조회 상한에 걸리면 size보다 적게 반환하면서 nextCursor로 이어서 검색할 위치를 알려줌
+     */
+    public LetterSearchResDto search(int userId, String query, Integer beforeLetterId, int size) {
+        String q = HangulNormalizer.normalize(query == null ? "" : query).text();
+        if (q.isEmpty() || q.length() > MAX_QUERY_LENGTH) {
+            throw new ApiException(StatusCode.BAD_REQUEST, Message.ARGUMENT_NOT_PROPER);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        int before = beforeLetterId == null ? Integer.MAX_VALUE : beforeLetterId;
+        Map<Integer, String> contents = new LinkedHashMap<>();
+        Map<Integer, HangulNormalizer.Normalized> normalized = new HashMap<>();
+        boolean exhausted = false;
+        for (int round = 0; round < MAX_ROUNDS && contents.size() <= pageSize; round++) {
+            int limit = (pageSize + 1 - contents.size()) * 2;
+            List<Integer> candidates = findCandidates(userId, q, before, limit);
+            Map<Integer, String> bodies = candidates.isEmpty() ? Map.of() : letterBodyService.findContents(candidates);
+            for (Integer letterId : candidates) {
+                before = letterId;
+                String content = bodies.get(letterId);
+                if (content == null) continue;
+                HangulNormalizer.Normalized n = HangulNormalizer.normalize(content);
+                if (!n.text().contains(q)) continue;
+                contents.put(letterId, content);
+                normalized.put(letterId, n);
+                if (contents.size() > pageSize) break;
+            }
+            if (candidates.size() < limit) {
+                exhausted = true;
+                break;
+            }
+        }
+
+        List<Integer> letterIds = new ArrayList<>(contents.keySet());
+        Integer nextCursor = null;
+        if (letterIds.size() > pageSize) {
+            letterIds = letterIds.subList(0, pageSize);
+            nextCursor = letterIds.get(pageSize - 1);
+        } else if (!exhausted) {
+            nextCursor = before;
+        }
+
+        List<LetterSearchHitResDto> hits = toHits(userId, letterIds, contents, normalized, q);
+        return new LetterSearchResDto(query, hits, nextCursor);
+    }
+
+    /**
+     * 색인 이전에 저장된 편지 채우기 (기동 시 1회, 별도 스레드에서 실행해 기동과 요청 처리를 막지 않음)
+     * 진행 위치는 Redis에 기록해 중단되면 다음 기동 때 이어서 진행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillEnabled) return;
+        backfillExecutor.execute(this::runBackfill);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        backfillExecutor.shutdownNow();
+    }
+
+    private void runBackfill() {
+        try {
+            Integer maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(letter_id), 0) FROM letter_bodies", Map.of(), Integer.class);
+            String saved = redisTemplate.opsForValue().get(BACKFILL_CURSOR_KEY);
+            int afterId = saved == null ? 0 : Integer.parseInt(saved);
+            if (maxId == null || afterId >= maxId) return;
+
+            log.info("편지 검색 색인 채우기 시작: letter_id {} ~ {}", afterId + 1, maxId);
+            long startedAt = System.currentTimeMillis();
+            int startId = afterId;
+            int indexed = 0;
+            int ranges = 0;
+            for (; afterId < maxId; afterId += BACKFILL_RANGE) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("편지 검색 색인 채우기 중지 (다음 기동 때 이어서 진행): letter_id {} 까지, {}건", afterId, indexed);
+                    return;
+                }
+                int from = afterId;
+                int to = afterId + BACKFILL_RANGE;
+                Integer count = transactionTemplate.execute(status -> backfillRange(from, to));
+                indexed += count == null ? 0 : count;
+                redisTemplate.opsForValue().set(BACKFILL_CURSOR_KEY, String.valueOf(to));
+                if (++ranges % BACKFILL_LOG_EVERY == 0) {
+                    long percent = (long) (Math.min(to, maxId) - startId) * 100 / (maxId - startId);
+                    log.info("편지 검색 색인 채우기 진행: letter_id {} / {} ({}%), {}건", Math.min(to, maxId), maxId, percent, indexed);
+                }
+            }
+            log.info("편지 검색 색인 채우기 완료: {}건, {}ms", indexed, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("편지 검색 색인 채우기 중단 (다음 기동 때 이어서 진행): {}", e.getMessage());
+        }
+    }
+
+    private int backfillRange(int afterId, int toId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("toId", toId);
+        List<int[]> letters = jdbcTemplate.query(BACKFILL_SOURCE_SQL, params,
+                (rs, rowNum) -> new int[]{rs.getInt("letter_id"), rs.getInt("sender"), rs.getInt("receiver")});
+        if (letters.isEmpty()) return 0;
+
+        Map<Integer, String> bodies = letterBodyService.findContents(letters.stream().map(l -> l[0]).toList());
+        List<Object[]> rows = new ArrayList<>();
+        for (int[] letter : letters) {
+            collectRows(rows, letter[0], letter[1], letter[2], bodies.get(letter[0]));
+            if (rows.size() >= INSERT_BATCH_ROWS) {
+                insertRows(rows);
+                rows.clear();
+            }
+        }
+        insertRows(rows);
+        return letters.size();
+    }
+
+    private List<Integer> findCandidates(int userId, String q, int before, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("before", before)
+                .addValue("limit", limit);
+        if (q.length() == 1) {
+            params.addValue("prefix", q + "%");
+            return jdbcTemplate.queryForList(PREFIX_CANDIDATE_SQL, params, Integer.class);
+        }
+        Set<String> grams = grams(q, false);
+        params.addValue("grams", grams);
+        params.addValue("gramCount", grams.size());
+        return jdbcTemplate.queryForList(CANDIDATE_SQL, params, Integer.class);
+    }
+
+    private List<LetterSearchHitResDto> toHits(int userId, List<Integer> letterIds, Map<Integer, String> contents,
+                                               Map<Integer, HangulNormalizer.Normalized> normalized, String q) {
+        if (letterIds.isEmpty()) return List.of();
+
+        Map<Integer, Letter> hot = letterRepository.findAllWithUsersByIdIn(letterIds).stream()
+                .collect(Collectors.toMap(Letter::getId, Function.identity()));
+        List<Integer> missing = letterIds.stream().filter(id -> !hot.containsKey(id)).toList();
+        Map<Integer, ArchivedLetter> archived = missing.isEmpty() ? Map.of()
+                : archivedLetterRepository.findAllWithUsersByIdIn(missing).stream()
+                        .collect(Collectors.toMap(ArchivedLetter::getId, Function.identity()));
+        // 아직 DB에 반영되지 않은 읽음 처리 보정
+        Set<Integer> pendingReads = letterReadBuffer.pendingAmong(hot.values().stream()
+                .filter(letter -> letter.getStatus() != LetterStatus.READ)
+                .map(Letter::getId)
+                .toList());
+
+        List<LetterSearchHitResDto> hits = new ArrayList<>(letterIds.size());
+        for (Integer letterId : letterIds) {
+            Letter letter = hot.get(letterId);
+            ArchivedLetter archivedLetter = archived.get(letterId);
+            User sender;
+            User receiver;
+            LetterStatus status;
+            LocalDate createdAt;
+            if (letter != null) {
+                sender = letter.getSender();
+                receiver = letter.getReceiver();
+                status = pendingReads.contains(letterId) ? LetterStatus.READ : letter.getStatus();
+                createdAt = letter.getCreatedAt().toLocalDate();
+            } else if (archivedLetter != null) {
+                sender = archivedLetter.getSender();
+                receiver = archivedLetter.getReceiver();
+                status = archivedLetter.getStatus();
+                createdAt = archivedLetter.getCreatedAt().toLocalDate();
+            } else {
+                continue;
+            }
+
+            boolean isReceived = receiver.getId() == userId;
+            User opponent = isReceived ? sender : receiver;
+            LetterSearchHitResDto hit = snippet(contents.get(letterId), normalized.get(letterId), q);
+            hit.setLetterId(letterId);
+            hit.setOpponentId(opponent.getId());
+            hit.setOpponentName(opponent.getUserName());
+            hit.setReceived(isReceived);
+            hit.setStatus(status);
+            hit.setCreatedAt(createdAt);
+            hits.add(hit);
+        }
+        return hits;
+    }
+
+    /** 첫 일치 위치 주변 본문과 그 안의 일치 구간 (원문 문자열 인덱스 기준, q 는 정규화된 검색어) **/
+    public static LetterSearchHitResDto snippet(String content, HangulNormalizer.Normalized n, String q) {
+        List<int[]> matches = new ArrayList<>();
+        for (int i = n.text().indexOf(q); i >= 0; i = n.text().indexOf(q, i + q.length())) {
+            matches.add(new int[]{n.start(i), n.end(i + q.length() - 1)});
+        }
+
+        int from = Math.max(0, matches.get(0)[0] - SNIPPET_MARGIN);
+        int to = Math.min(content.length(), matches.get(0)[1] + SNIPPET_MARGIN);
+        // 서로게이트 쌍이 잘리지 않도록 경계 보정
+        if (from > 0 && Character.isLowSurrogate(content.charAt(from))) from--;
+        if (to < content.length() && Character.isLowSurrogate(content.charAt(to))) to++;
+
+        List<LetterSearchHitResDto.Highlight> highlights = new ArrayList<>();
+        for (int[] match : matches) {
+            if (match[0] >= from && match[1] <= to) {
+                highlights.add(new LetterSearchHitResDto.Highlight(match[0] - from, match[1] - from));
+            }
+        }
+
+        LetterSearchHitResDto hit = new LetterSearchHitResDto();
+        hit.setSnippet(content.substring(from, to));
+        hit.setHighlights(highlights);
+        return hit;
+    }
+
+    private static void collectRows(List<Object[]> rows, int letterId, int senderId, int receiverId, String content) {
+        if (content == null) return;
+        Set<String> grams = grams(HangulNormalizer.normalize(content).text(), true);
+        for (String gram : grams) {
+            rows.add(new Object[]{senderId, gram, letterId});
+            if (receiverId != senderId) {
+                rows.add(new Object[]{receiverId, gram, letterId});
+            }
+        }
+    }
+
+    /** 연속 두 글자 목록 (withTail이면 마지막 글자 한 글자도 포함) **/
+    public static Set<String> grams(String text, boolean withTail) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        if (withTail && !text.isEmpty()) {
+            grams.add(text.substring(text.length() - 1));
+        }
+        return grams;
+    }
+
+    // 여러 행을 한 INSERT 문으로 (드라이버 배치 재작성 설정과 무관하게 왕복 횟수를 줄임)
+    private void insertRows(List<Object[]> rows) {
+        for (int offset = 0; offset < rows.size(); offset += INSERT_BATCH_ROWS) {
+            List<Object[]> chunk = rows.subList(offset, Math.min(rows.size(), offset + INSERT_BATCH_ROWS));
+            StringBuilder sql = new StringBuilder("INSERT IGNORE INTO letter_search_grams (user_id, gram, letter_id) VALUES ");
+            Object[] args = new Object[chunk.size() * 3];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+                System.arraycopy(chunk.get(i), 0, args, i * 3, 3);
+            }
+            jdbcTemplate.getJdbcOperations().update(sql.toString(), args);
+        }
+    }
+
+}
@@ -11,29 +11,35 @@ import com.pairing.buds.domain.letter.dto.request.ScrapLetterReqDto;
 import com.pairing.buds.domain.letter.dto.request.SendLetterReqDto;
 import com.pairing.buds.domain.letter.dto.response.GetLetterDetailResDto;
 import com.pairing.buds.domain.letter.dto.response.*;
+import com.pairing.buds.domain.letter.entity.ArchivedLetter;
 import com.pairing.buds.domain.letter.entity.Letter;
 import com.pairing.buds.domain.letter.entity.LetterFavorite;
 import com.pairing.buds.domain.letter.entity.LetterFavoriteId;
 import com.pairing.buds.domain.letter.entity.LetterStatus;
+import com.pairing.buds.domain.letter.repository.ArchivedLetterRepository;
+import com.pairing.buds.domain.letter.repository.ConversationRepository;
 import com.pairing.buds.domain.letter.repository.LetterFavoriteRepository;
 import com.pairing.buds.domain.letter.repository.LetterRepository;
 import com.pairing.buds.domain.user.entity.Tag;
 import com.pairing.buds.domain.user.entity.TagType;
 import com.pairing.buds.domain.user.entity.User;
 import com.pairing.buds.domain.user.repository.UserRepository;
+import com.pairing.buds.domain.user.service.LetterTokenService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,92 +48,260 @@ import java.util.stream.Collectors;
 public class LetterService {
 
     private final LetterRepository letterRepository;
+    private final ArchivedLetterRepository archivedLetterRepository;
     private final UserRepository userRepository;
     private final LetterFavoriteRepository letterFavoriteRepository;
     private final BadWordFilter badWordFilter;
+    private final ReceiverSelector receiverSelector;
+    private final ConversationRepository conversationRepository;
+    private final ConversationService conversationService;
+    private final MatchService matchService;
+    private final LetterPushService letterPushService;
+    private final LetterReadBuffer letterReadBuffer;
+    private final LetterReadService letterReadService;
+    private final LetterBodyService letterBodyService;
+    private final LetterSearchService letterSearchService;
+    private final LetterTokenService letterTokenService;
+
+    /** 채팅 리스트 한 페이지 기본 / 최대 크기 **/
+    private static final int DEFAULT_CHAT_PAGE_SIZE = 20;
+    private static final int MAX_CHAT_PAGE_SIZE = 50;
 
-    /** 특정 편지 상세 조회 **/
-    @Transactional
+    /**
+     * 특정 편지 상세 조회
+     * 받은 사람이 조회하면 읽음 처리 (버퍼에 기록 후 주기적으로 DB 반영, 조회 자체는 읽기 전용)
+     * letters 에 없으면 보관 테이블에서 조회 (보관된 편지는 상태를 바꾸지 않음)
+     **/
     public GetLetterDetailResDto getLetterDetail(int userId, int letterId) {
-        // 응답
-        Letter letter = letterRepository.findById(letterId).orElseThrow((()-> new ApiException(StatusCode.NOT_FOUND, Message.LETTER_NOT_FOUND)));
-        letter.setStatus(LetterStatus.READ);
-        letterRepository.save(letter);
-        return GetLetterDetailResDto.toDto(letter);
+        Optional<Letter> hot = letterRepository.findById(letterId);
+        if (hot.isEmpty()) {
+            ArchivedLetter archived = archivedLetterRepository.findById(letterId)
+                    .orElseThrow((()-> new ApiException(StatusCode.NOT_FOUND, Message.LETTER_NOT_FOUND)));
+            return GetLetterDetailResDto.toDto(archived, letterBodyService.findContent(letterId));
+        }
+        Letter letter = hot.get();
+        letterBodyService.fillContent(letter);
+        GetLetterDetailResDto response = GetLetterDetailResDto.toDto(letter);
+        if (letter.getStatus() != LetterStatus.READ) {
+            if (letter.getReceiver().getId() == userId) {
+                letterReadBuffer.markRead(letter.getId());
+                response.setStatus(LetterStatus.READ);
+            } else if (letterReadBuffer.isPending(letter.getId())) {
+                response.setStatus(LetterStatus.READ);
+            }
+        }
+        return response;
     }
 
 
-    /** 편지 채팅 리스트 조회 **/
-    public LetterChatListResDto getLetterChatList(Integer userId) {
+    /**
+     * 편지 채팅 리스트 조회
+     * conversations 읽기 모델에서 한 페이지만 조회 (마지막 편지 최신순, cursor = 이전 페이지의 nextCursor)
+     * cursor, size 둘 다 없으면 전체 목록을 한 번에 조회 (nextCursor = null)
+     **/
+    public LetterChatListResDto getLetterChatList(Integer userId, Integer cursor, Integer size) {
         User loginUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(StatusCode.BAD_REQUEST, Message.USER_NOT_FOUND));
 
-        // userId 기준 수*발신 편지 조회
-        List<Letter> letters = letterRepository.findAllBySenderIdOrReceiverIdOrderByIdDesc(userId, userId);
+        boolean paged = cursor != null || size != null;
+        int pageSize = Math.max(1, Math.min(size == null ? DEFAULT_CHAT_PAGE_SIZE : size, MAX_CHAT_PAGE_SIZE));
+        List<ChatUserInfoResDto> chatUsers = conversationRepository.findPageByOwner(
+                        userId,
+                        cursor == null ? Integer.MAX_VALUE : cursor,
+                        paged ? PageRequest.of(0, pageSize) : Pageable.unpaged()
+                ).stream()
+                .map(ChatUserInfoResDto::toDto)
+                .toList();
+
+        // 아직 DB에 반영되지 않은 읽음 처리 보정
+        List<Integer> unreadLetterIds = chatUsers.stream()
+                .filter(chatUser -> chatUser.getLastLetterStatus() != LetterStatus.READ)
+                .map(ChatUserInfoResDto::getRecentLetterId)
+                .toList();
+        Set<Integer> pendingReads = letterReadBuffer.pendingAmong(unreadLetterIds);
+        chatUsers.stream()
+                .filter(chatUser -> pendingReads.contains(chatUser.getRecentLetterId()))
+                .forEach(chatUser -> chatUser.setLastLetterStatus(LetterStatus.READ));
 
-        // 상대방별로 주고받은 편지 중 최신 편지 1개 남기기 (LinkedHashMap -> 최신순 유지)
-        Map<Integer, Letter> latestLetterMap = new LinkedHashMap<>();
+        Integer nextCursor = !paged || chatUsers.size() < pageSize ? null : chatUsers.get(chatUsers.size() - 1).getRecentLetterId();
+        return new LetterChatListResDto(loginUser.getLetterCnt(), chatUsers, nextCursor);
+    }
 
-        for (Letter letter : letters) {
-            User opponent = letter.getSender().getId().equals(userId) ? letter.getReceiver() : letter.getSender();
-            Integer opponentId = opponent.getId();
+    /**
+     * 특정 사용자와의 편지 상세 목록 조회 (오프셋 페이지)
+     * withTotal이 false이면 COUNT 쿼리 없이 조회하고 totalPages는 -1
+     * 두 유저 사이에 보관된 편지가 있으면 letters 와 letters_archive 를 합쳐서 페이지 구성
+     **/
+    public LetterDetailListResDto getLetterDetailList(Integer userId, Integer opponentId, int page, int size, boolean withTotal) {
+        User loginUser = userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException(StatusCode.BAD_REQUEST, Message.USER_NOT_FOUND));
 
-            // 이미 있으면 스킵
-            if (!latestLetterMap.containsKey(opponentId)) {
-                latestLetterMap.put(opponentId, letter);
-            }
+        User opponent = userRepository.findById(opponentId)
+                .orElseThrow(() -> new ApiException(StatusCode.BAD_REQUEST, Message.USER_NOT_FOUND));
+
+        long archivedCount = archivedLetterRepository.countLettersBetweenUsers(userId, opponentId);
+        if (archivedCount > 0) {
+            return getLetterDetailListWithArchive(loginUser, opponent, page, size, withTotal, archivedCount);
         }
 
-        List<ChatUserInfoResDto> chatUsers = latestLetterMap.values().stream()
-                .map(letter -> {
-                    User opponent = letter.getSender().getId().equals(userId) ? letter.getReceiver() : letter.getSender();
-                    boolean isReceived = letter.getReceiver().getId().equals(userId);
+        // 두 사용자간 편지 페이지 조회 (최신순)
+        Slice<Letter> letterSlice;
+        int totalPages = -1;
+        if (withTotal) {
+            Page<Letter> letterPage = letterRepository.findLettersBetweenUsers(userId, opponentId, PageRequest.of(page, size));
+            totalPages = letterPage.getTotalPages();
+            letterSlice = letterPage;
+        } else {
+            letterSlice = letterRepository.findLetterSliceBetweenUsers(userId, opponentId, PageRequest.of(page, size));
+        }
 
-                    return new ChatUserInfoResDto(
-                            opponent.getId(),
-                            letter.getId(),
-                            opponent.getUserName(),
-                            letter.getCreatedAt().toLocalDate(),
-                            letter.getStatus(),
-                            isReceived
-                    );
-                })
-                .toList();
+        List<LetterDetailResDto> letters = toLetterDetails(letterSlice.getContent(), loginUser, opponent);
+        Integer nextCursor = letterSlice.hasNext() ? letters.get(letters.size() - 1).getLetterId() : null;
+
+        return new LetterDetailListResDto(
+                opponent.getId(),
+                opponent.getUserName(),
+                letterSlice.getNumber(),
+                totalPages,
+                letters,
+                nextCursor
+        );
+    }
+
+    // 보관 테이블까지 합친 id 페이지를 구한 뒤 각 테이블에서 발신/수신자와 함께 조회
+    private LetterDetailListResDto getLetterDetailListWithArchive(User loginUser, User opponent, int page, int size,
+                                                                  boolean withTotal, long archivedCount) {
+        Integer userId = loginUser.getId();
+        Integer opponentId = opponent.getId();
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Integer> letterIds = letterRepository.findLetterIdsBetweenUsersWithArchive(
+                userId, opponentId, size + 1, (long) page * size);
+        boolean hasNext = letterIds.size() > size;
+        if (hasNext) letterIds = letterIds.subList(0, size);
+
+        int totalPages = -1;
+        if (withTotal) {
+            long total = letterRepository.countLettersBetweenUsers(userId, opponentId) + archivedCount;
+            totalPages = (int) ((total + size - 1) / size);
+        }
+
+        List<LetterDetailResDto> letters = new ArrayList<>(letterIds.size());
+        if (!letterIds.isEmpty()) {
+            List<Letter> hot = letterRepository.findAllWithUsersByIdIn(letterIds);
+            Set<Integer> hotIds = hot.stream().map(Letter::getId).collect(Collectors.toSet());
+            List<Integer> missing = letterIds.stream().filter(id -> !hotIds.contains(id)).toList();
+            letters.addAll(toLetterDetails(hot, loginUser, opponent));
+            if (!missing.isEmpty()) {
+                letters.addAll(toArchivedLetterDetails(
+                        archivedLetterRepository.findAllWithUsersByIdIn(missing), loginUser, opponent));
+            }
+            letters.sort(Comparator.comparing(LetterDetailResDto::getLetterId).reversed());
+        }
+        Integer nextCursor = hasNext && !letters.isEmpty() ? letters.get(letters.size() - 1).getLetterId() : null;
 
-        return new LetterChatListResDto(loginUser.getLetterCnt(), chatUsers);
+        return new LetterDetailListResDto(
+                opponentId,
+                opponent.getUserName(),
+                page,
+                totalPages,
+                letters,
+                nextCursor
+        );
     }
 
-    /** 특정 사용자와의 편지 상세 목록 조회 **/
-    public LetterDetailListResDto getLetterDetailList(Integer userId, Integer opponentId, int page, int size) {
+    /**
+     * 특정 사용자와의 편지 상세 목록 조회 (키셋 페이지)
+     * 방향별로 인덱스를 타는 쿼리 두 개를 각각 size개까지 읽어 병합 → OR 조건 풀스캔과 COUNT 없음
+     * beforeLetterId가 null이면 가장 최신 편지부터
+     * 보관 테이블은 이번 페이지가 보관된 구간(최대 보관 id 이하)까지 내려갈 때만 같은 방식으로 조회해 병합
+     **/
+    public LetterDetailListResDto getLetterDetailListBefore(Integer userId, Integer opponentId, Integer beforeLetterId, int size) {
         User loginUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(StatusCode.BAD_REQUEST, Message.USER_NOT_FOUND));
 
         User opponent = userRepository.findById(opponentId)
                 .orElseThrow(() -> new ApiException(StatusCode.BAD_REQUEST, Message.USER_NOT_FOUND));
 
-        // 두 사용자간 편지 페이지 조회 (최신순)
-        Page<Letter> letterPage = letterRepository.findLettersBetweenUsers(userId, opponentId, PageRequest.of(page, size));
+        int before = beforeLetterId == null ? Integer.MAX_VALUE : beforeLetterId;
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Letter> sent = letterRepository.findOneWayLettersBefore(userId, opponentId, before, limit);
+        List<Letter> received = letterRepository.findOneWayLettersBefore(opponentId, userId, before, limit);
+
+        List<Letter> merged = new ArrayList<>(sent.size() + received.size());
+        merged.addAll(sent);
+        merged.addAll(received);
+        merged.sort(Comparator.comparing(Letter::getId).reversed());
+
+        List<LetterDetailResDto> candidates = new ArrayList<>(toLetterDetails(
+                merged.size() > size + 1 ? merged.subList(0, size + 1) : merged, loginUser, opponent));
+        // letters 만으로 size + 1개를 채웠고 그 마지막이 보관 구간보다 최신이면 보관 테이블은 볼 필요 없음
+        boolean coveredByHot = candidates.size() > size
+                && candidates.get(size).getLetterId() > archivedLetterRepository.findMaxId();
+        if (!coveredByHot) {
+            List<ArchivedLetter> archived = new ArrayList<>();
+            archived.addAll(archivedLetterRepository.findOneWayLettersBefore(userId, opponentId, before, limit));
+            archived.addAll(archivedLetterRepository.findOneWayLettersBefore(opponentId, userId, before, limit));
+            candidates.addAll(toArchivedLetterDetails(archived, loginUser, opponent));
+            candidates.sort(Comparator.comparing(LetterDetailResDto::getLetterId).reversed());
+        }
+
+        boolean hasNext = candidates.size() > size;
+        List<LetterDetailResDto> letters = hasNext ? candidates.subList(0, size) : candidates;
+        Integer nextCursor = hasNext ? letters.get(letters.size() - 1).getLetterId() : null;
+
+        return new LetterDetailListResDto(
+                opponent.getId(),
+                opponent.getUserName(),
+                0,
+                -1,
+                letters,
+                nextCursor
+        );
+    }
+
+    // 발신자 이름은 이미 조회한 두 유저에서 가져와 편지마다 sender 지연 로딩이 일어나지 않도록 함
+    private List<LetterDetailResDto> toLetterDetails(List<Letter> letters, User loginUser, User opponent) {
+        // 아직 DB에 반영되지 않은 읽음 처리 보정
+        Set<Integer> pendingReads = letterReadBuffer.pendingAmong(letters.stream()
+                .filter(letter -> letter.getStatus() != LetterStatus.READ)
+                .map(Letter::getId)
+                .toList());
+        return letters.stream()
+                .map(letter -> {
+                    boolean isReceived = letter.getReceiver().getId().equals(loginUser.getId());
+                    return new LetterDetailResDto(
+                            letter.getId(),
+                            isReceived ? opponent.getUserName() : loginUser.getUserName(),
+                            letter.getCreatedAt().toLocalDate(),
+                            isReceived,
+                            pendingReads.contains(letter.getId()) ? LetterStatus.READ : letter.getStatus()
+                    );
+                })
+                .toList();
+    }
 
-        List<LetterDetailResDto> letters = letterPage.getContent().stream()
+    private List<LetterDetailResDto> toArchivedLetterDetails(List<ArchivedLetter> letters, User loginUser, User opponent) {
+        return letters.stream()
                 .map(letter -> {
-                    boolean isReceived = letter.getReceiver().getId().equals(userId);
+                    boolean isReceived = letter.getReceiver().getId().equals(loginUser.getId());
                     return new LetterDetailResDto(
                             letter.getId(),
-                            letter.getSender().getUserName(),
+                            isReceived ? opponent.getUserName() : loginUser.getUserName(),
                             letter.getCreatedAt().toLocalDate(),
                             isReceived,
                             letter.getStatus()
                     );
                 })
                 .toList();
+    }
 
-        return new LetterDetailListResDto(
-                opponent.getId(),
-                opponent.getUserName(),
-                letterPage.getNumber(),
-                letterPage.getTotalPages(),
-                letters
-        );
+    /** 상대에게 받은 편지 전체 읽음 처리 **/
+    public int markConversationRead(Integer userId, Integer opponentId) {
+        if (!userRepository.existsById(opponentId)) {
+            throw new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND);
+        }
+        return letterReadService.markConversationRead(userId, opponentId);
     }
 
     /** 최근 수신 편지 1건 조회 **/
@@ -138,10 +312,12 @@ public class LetterService {
         // 가장 최근 편지 한 건 조회
         Letter letter = letterRepository.findFirstByReceiver_IdOrderByCreatedAtDescIdDesc(loginUser.getId())
                 .orElseThrow(() -> new ApiException(StatusCode.NOT_FOUND, Message.LETTER_NOT_FOUND));
+        letterBodyService.fillContent(letter);
 
-        // 상태 읽음으로 변경
-        letter.setStatus(LetterStatus.READ);
-        letterRepository.save(letter);
+        // 읽음 처리 (버퍼에 기록 후 주기적으로 DB 반영)
+        if (letter.getStatus() != LetterStatus.READ) {
+            letterReadBuffer.markRead(letter.getId());
+        }
 
         return new LatestLetterDetailResDto(
                 letter.getId(),
@@ -149,15 +325,18 @@ public class LetterService {
                 letter.getCreatedAt().toLocalDate(),
                 letter.getContent(),
                 true,
-                letter.getStatus()
+                LetterStatus.READ
         );
     }
 
     /** 스크랩 된 편지 조회 **/
     public List<GetLetterDetailResDto> getScrappedLettersOfUser(Integer userId) {
         List<LetterFavorite> letterFavorites = letterFavoriteRepository.findAllByUser_IdOrderByCreatedAtDesc(userId);
-        return letterFavorites.stream().map(letterFavorite ->
-                GetLetterDetailResDto.toDto(letterFavorite.getLetter()))
+        List<Letter> letters = letterBodyService.fillContents(letterFavorites.stream()
+                .map(LetterFavorite::getLetter)
+                .toList());
+        return letters.stream()
+                .map(GetLetterDetailResDto::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -197,8 +376,8 @@ public class LetterService {
         }
         User receiver = userRepository.findById(receiverId).orElseThrow(()-> new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND));
 
-        // 이미 대화를 한 적이 있는 유저인지 검증
-        if(letterRepository.existsBySender_IdAndReceiver_Id(sender.getId(), receiver.getId())){
+        // 이미 대화를 한 적이 있는 유저인지 검증 (matches 기본키 조회, 보관된 편지 포함)
+        if(matchService.hasSent(sender.getId(), receiver.getId())){
            throw new ApiException(StatusCode.BAD_REQUEST, Message.LETTER_HAVE_SENT_ALREADY);
         }
 
@@ -211,6 +390,11 @@ public class LetterService {
         letter.setContent(content);
 
         letterRepository.save(letter);
+        letterBodyService.save(letter);
+        letterSearchService.index(letter);
+        conversationService.recordLetter(letter);
+        matchService.recordLetter(letter);
+        letterPushService.notifyNewLetter(letter);
     }
 
     /** 답장 작성 **/
@@ -259,6 +443,11 @@ public class LetterService {
         // 저장
         letterRepository.save(letter);
         letterRepository.save(answeredLetter);
+        letterBodyService.save(answeredLetter);
+        letterSearchService.index(answeredLetter);
+        conversationService.recordLetter(answeredLetter);
+        matchService.recordLetter(answeredLetter);
+        letterPushService.notifyNewLetter(answeredLetter);
     }
 
     /**
@@ -275,22 +464,20 @@ public class LetterService {
         User sender = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(StatusCode.BAD_REQUEST, Message.USER_NOT_FOUND));
 
-        if (sender.getLetterCnt() <= 0) {
-            throw new ApiException(StatusCode.BAD_REQUEST, Message.OUT_OF_LETTER_TOKEN);
-        }
+        // 편지 토큰 차감 (조건부 UPDATE, 이후 단계에서 실패하면 트랜잭션과 함께 롤백)
+        letterTokenService.consume(userId);
 
         // 욕설 필터링
         if(badWordFilter.isBadWord(dto.getContent())){
             throw new ApiException(StatusCode.BAD_REQUEST, Message.ARGUMENT_NOT_PROPER);
         }
 
-        List<User> candidates;
         LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1); // 최근 1개월 이내
-        Pageable page = PageRequest.of(0, 5); // 5명 선택
+        List<TagType> senderTagTypes = null;
 
         if(dto.getIsTagBased()) {
             // 태그 기반 랜덤 발송(1개 이상 일치하는 경우 후보)
-            List<TagType> senderTagTypes = sender.getTags().stream()
+            senderTagTypes = sender.getTags().stream()
                     .map(Tag::getTagType)
                     .toList();
 
@@ -298,28 +485,9 @@ public class LetterService {
             if (senderTagTypes.isEmpty()) {
                 throw new ApiException(StatusCode.BAD_REQUEST, Message.TAGS_NOT_SELECTED);
             }
-
-            candidates = userRepository.findRandomReceiverByTags(
-                    sender.getId(),
-                    senderTagTypes,
-                    oneMonthAgo,
-                    page
-            );
-
-        } else {
-            // 일반 랜덤 발송
-            candidates = userRepository.findRandomReceiver(
-                    sender.getId(),
-                    oneMonthAgo,
-                    page
-            );
         }
 
-        if (candidates.isEmpty()) {
-            throw new ApiException(StatusCode.BAD_REQUEST, Message.RECEIVER_NOT_FOUND);
-        }
-
-        User receiver = candidates.get(0);
+        User receiver = receiverSelector.select(sender.getId(), senderTagTypes, oneMonthAgo);
 
         Letter letter = new Letter();
         letter.setSender(sender);
@@ -327,10 +495,12 @@ public class LetterService {
         letter.setContent(dto.getContent());
         letter.setIsTagBased(dto.getIsTagBased());
 
-        sender.setLetterCnt(sender.getLetterCnt() - 1);
-
-        userRepository.save(sender);
         letterRepository.save(letter);
+        letterBodyService.save(letter);
+        letterSearchService.index(letter);
+        conversationService.recordLetter(letter);
+        matchService.recordLetter(letter);
+        letterPushService.notifyNewLetter(letter);
     }
 
     /** 편지 스크랩 취소 **/
@@ -0,0 +1,232 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.common.utils.AliasTable;
+import com.pairing.buds.domain.user.service.PersonaIndex;
+import com.pairing.buds.domain.user.service.TagIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 태그 기반 발송 수신자 가중치 추출 (노드 로컬)
+ * - 세그먼트 = (태그 1개, 설문 점수를 항목별 PERSONA_LEVELS 구간으로 나눈 칸)
+ *   점수는 PersonaIndex 좌표(항목마다 자기 점수 범위를 0 ~ PersonaIndex.SCALE 로 환산한 값)를 쓰므로
+ *   구간과 거리 모두 항목별 범위 차이(은둔 지수 0~40, 나머지 0~4)에 영향받지 않음
+ *   키 수는 태그 종류 × (PERSONA_LEVELS^6 + 1) 로 고정되어 발신자 수와 무관하게 캐시에 들어옴
+ * - 세그먼트 후보는 모두 그 태그를 가지므로 가중치 = 1 + PERSONA_WEIGHT × 설문 점수 유사도 (후보별 태그 조회 없음)
+ * - 발신자 태그별 세그먼트를 가중치 합에 비례해 고른 뒤 alias 추출
+ *   → 뽑힐 확률 ∝ 겹치는 태그 수 × (1 + PERSONA_WEIGHT × 유사도)
+ * - 세그먼트 구성은 별도 스레드에서 하고 요청 스레드는 만들어진 테이블만 읽음
+ *   아직 없는 세그먼트는 건너뛰고(모두 없으면 빈 목록), ttl 이 지난 세그먼트는 다시 만드는 동안 그대로 사용
+ */
+@Slf4j
+@Component
+public class ReceiverDistribution {
+
+    /** 설문 점수 유사도 반영 비율 (유사도 1이면 가중치 5배) **/
+    private static final double PERSONA_WEIGHT = 4.0;
+    /** 유사도 = 1 / (1 + 거리² / PERSONA_SCALE) **/
+    private static final double PERSONA_SCALE = 400.0;
+    /** 세그먼트용 항목별 설문 점수 구간 수 **/
+    private static final int PERSONA_LEVELS = 2;
+    /** 구간 폭 (좌표 0 ~ SCALE 을 PERSONA_LEVELS 구간으로, 0~20 / 21~40 → 1문항 항목은 0~2점 / 3~4점) **/
+    private static final int PERSONA_BUCKET = PersonaIndex.SCALE / PERSONA_LEVELS + 1;
+    /** 설문 전 유저의 구간 코드 **/
+    private static final int NO_PERSONA = -1;
+
+    private final TagIndex tagIndex;
+    private final PersonaIndex personaIndex;
+    private final int candidateSize;
+    private final long ttlMillis;
+    private final Map<Long, Segment> segments;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "receiver-distribution");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ReceiverDistribution(TagIndex tagIndex,
+                                PersonaIndex personaIndex,
+                                @Value("${letter.receiver-distribution.candidate-size:2000}") int candidateSize,
+                                @Value("${letter.receiver-distribution.ttl-millis:600000}") long ttlMillis,
+                                @Value("${letter.receiver-distribution.max-segments:512}") int maxSegments) {
+        this.tagIndex = tagIndex;
+        this.personaIndex = personaIndex;
+        this.candidateSize = Math.max(16, candidateSize);
+        this.ttlMillis = Math.max(1_000, ttlMillis);
+        int capacity = Math.max(1, maxSegments);
+        this.segments = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Segment> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 가중치 비례로 후보 id를 최대 count개 추출 (중복, senderId 제외)
+     * 태그 역색인이 준비되지 않았거나 발신자 태그의 세그먼트가 아직 없으면 빈 목록
+     */
+    public List<Integer> draw(int senderId, Collection<Integer> tagTypeIds, int count) {
+        if (tagTypeIds.isEmpty() || !tagIndex.isReady()) return List.of();
+        byte[] persona = personaIndex.isReady() ? personaIndex.vectorOf(senderId) : null;
+        int code = personaCode(persona);
+
+        long now = System.currentTimeMillis();
+        List<Segment> ready = new ArrayList<>();
+        double total = 0;
+        for (Integer tagTypeId : new LinkedHashSet<>(tagTypeIds)) {
+            long key = key(tagTypeId, code);
+            Segment segment;
+            synchronized (segments) {
+                segment = segments.get(key);
+            }
+            if (segment == null || now - segment.builtAt >= ttlMillis) schedule(key, tagTypeId, code);
+            if (segment == null || segment.table == null) continue;
+            ready.add(segment);
+            total += segment.totalWeight;
+        }
+        if (ready.isEmpty()) return List.of();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new LinkedHashSet<>(count * 2);
+        int tries = count * 4;
+        while (picked.size() < count && tries-- > 0) {
+            Segment segment = pick(ready, total, random);
+            int userId = segment.ids[segment.table.next(random)];
+            if (userId != senderId) picked.add(userId);
+        }
+        return List.copyOf(picked);
+    }
+
+    /** 캐시된 세그먼트 수 **/
+    public int segmentCount() {
+        synchronized (segments) {
+            return segments.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    // 같은 세그먼트는 한 번만 대기열에 올림
+    private void schedule(long key, int tagTypeId, int code) {
+        if (!pending.add(key)) return;
+        try {
+            builder.execute(() -> {
+                try {
+                    Segment fresh = build(tagTypeId, code);
+                    synchronized (segments) {
+                        segments.put(key, fresh);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("수신자 분포 세그먼트 구성 실패: 태그 {}", tagTypeId, e);
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+        }
+    }
+
+    private Segment build(int tagTypeId, int code) {
+        long now = System.currentTimeMillis();
+        byte[] center = code == NO_PERSONA ? null : bucketCenter(code);
+        List<Integer> candidates = tagIndex.sample(List.of(tagTypeId), candidateSize, -1);
+        int[] ids = new int[candidates.size()];
+        double[] weights = new double[candidates.size()];
+        double total = 0;
+        int n = 0;
+        for (Integer candidate : candidates) {
+            double similarity = 0;
+            if (center != null) {
+                byte[] vector = personaIndex.vectorOf(candidate);
+                if (vector != null) similarity = 1 / (1 + distance(center, vector) / PERSONA_SCALE);
+            }
+            ids[n] = candidate;
+            weights[n] = 1 + PERSONA_WEIGHT * similarity;
+            total += weights[n];
+            n++;
+        }
+        if (n == 0) return new Segment(new int[0], null, 0, now);
+        log.debug("수신자 분포 세그먼트 구성: 태그 {}, 구간 {}, 후보 {}명", tagTypeId, code, n);
+        return new Segment(ids, new AliasTable(weights), total, now);
+    }
+
+    private static Segment pick(List<Segment> ready, double total, ThreadLocalRandom random) {
+        double r = random.nextDouble(total);
+        for (Segment segment : ready) {
+            r -= segment.totalWeight;
+            if (r < 0) return segment;
+        }
+        return ready.get(ready.size() - 1);
+    }
+
+    private static long key(int tagTypeId, int code) {
+        return ((long) tagTypeId << 32) | (code & 0xFFFFFFFFL);
+    }
+
+    // 항목별 구간 번호를 PERSONA_LEVELS 진법으로 묶은 코드, 설문 전이면 NO_PERSONA
+    private static int personaCode(byte[] persona) {
+        if (persona == null) return NO_PERSONA;
+        int code = 0;
+        for (byte score : persona) {
+            int clamped = Math.max(0, Math.min(PersonaIndex.SCALE, score));
+            code = code * PERSONA_LEVELS + Math.min(PERSONA_LEVELS - 1, clamped / PERSONA_BUCKET);
+        }
+        return code;
+    }
+
+    // 구간 중앙값 (예: 0~20 → 10, 21~40 → 31)
+    private static byte[] bucketCenter(int code) {
+        byte[] center = new byte[PersonaIndex.DIMENSIONS];
+        for (int i = center.length - 1; i >= 0; i--) {
+            int level = code % PERSONA_LEVELS;
+            code /= PERSONA_LEVELS;
+            center[i] = (byte) Math.min(PersonaIndex.SCALE, level * PERSONA_BUCKET + PERSONA_BUCKET / 2);
+        }
+        return center;
+    }
+
+    private static int distance(byte[] a, byte[] b) {
+        int sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            int diff = a[i] - b[i];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private static final class Segment {
+        private final int[] ids;
+        private final AliasTable table;
+        private final double totalWeight;
+        private final long builtAt;
+
+        private Segment(int[] ids, AliasTable table, double totalWeight, long builtAt) {
+            this.ids = ids;
+            this.table = table;
+            this.totalWeight = totalWeight;
+            this.builtAt = builtAt;
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랜덤 발송 수신자 후보 풀 (노드 로컬)
+ * - 활성 유저 id를 int 배열로 들고 있다가 임의 인덱스로 O(1) 샘플링
+ * - 주기적으로 DB에서 다시 적재(id 커서 기준 배치 조회), 그 사이 가입/활성화는 배열 끝에 추가, 탈퇴/비활성화는 제외 목록에 기록
+ * - 풀은 후보를 뽑는 용도일 뿐이고, 활성 여부와 발송 제외 조건은 뽑힌 몇 명에 대해서만 DB에서 다시 확인
+ */
+@Slf4j
+@Component
+public class ReceiverPool {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final int maxAttempts;
+
+    /** 읽기는 락 없이 스냅샷 참조, 쓰기는 synchronized **/
+    private volatile Snapshot snapshot = new Snapshot(new int[0], 0);
+    private final Set<Integer> removed = ConcurrentHashMap.newKeySet();
+
+    public ReceiverPool(UserRepository userRepository,
+                        @Value("${letter.receiver-pool.max-attempts:4}") int maxAttempts) {
+        this.userRepository = userRepository;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * 임의 후보 id를 최대 count개 샘플링 (중복, 제외 목록, excludeId 제외)
+     * 풀이 비어 있거나 너무 작으면 count보다 적게 반환될 수 있음
+     */
+    public List<Integer> sample(int count, int excludeId) {
+        Snapshot current = snapshot;
+        if (current.size == 0) return List.of();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new LinkedHashSet<>(count * 2);
+        int tries = count * maxAttempts;
+        while (picked.size() < count && tries-- > 0) {
+            int id = current.ids[random.nextInt(current.size)];
+            if (id == excludeId || removed.contains(id)) continue;
+            picked.add(id);
+        }
+        return List.copyOf(picked);
+    }
+
+    /** 가입/활성화된 유저 추가 **/
+    public synchronized void add(int userId) {
+        removed.remove(userId);
+        Snapshot current = snapshot;
+        int[] ids = current.ids;
+        if (current.size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(16, ids.length + (ids.length >> 1)));
+        }
+        // 기존 읽기 스레드는 자신의 size 이후 칸을 읽지 않으므로 같은 배열에 이어 써도 안전
+        ids[current.size] = userId;
+        snapshot = new Snapshot(ids, current.size + 1);
+    }
+
+    /** 탈퇴/비활성화된 유저 제외 (다음 적재 때 실제로 빠짐) **/
+    public void remove(int userId) {
+        removed.add(userId);
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    /** 활성 유저 id 전체 재적재 **/
+    @Scheduled(fixedDelayString = "${letter.receiver-pool.refresh-millis:300000}")
+    public void reload() {
+        int[] ids = new int[Math.max(16, snapshot.size)];
+        int size = 0;
+        int lastId = 0;
+        while (true) {
+            List<Integer> batch = userRepository.findActiveUserIdsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) break;
+            if (size + batch.size() > ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(size + batch.size(), ids.length * 2));
+            }
+            for (Integer id : batch) {
+                ids[size++] = id;
+            }
+            lastId = batch.get(batch.size() - 1);
+            if (batch.size() < LOAD_BATCH_SIZE) break;
+        }
+
+        synchronized (this) {
+            snapshot = new Snapshot(ids, size);
+            removed.clear();
+        }
+        log.debug("수신자 후보 풀 적재 완료: {}명", size);
+    }
+
+    private static final class Snapshot {
+        private final int[] ids;
+        private final int size;
+
+        private Snapshot(int[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.pairing.buds.domain.letter.service;
+
+import com.pairing.buds.common.exception.ApiException;
+import com.pairing.buds.common.response.Message;
+import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.domain.user.entity.TagType;
+import com.pairing.buds.domain.user.entity.User;
+import com.pairing.buds.domain.user.repository.UserRepository;
+import com.pairing.buds.domain.user.service.TagIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랜덤 발송 수신자 선택 (동기 발송 / 비동기 발송 워커 공용)
+ * - 후보 풀(태그 기반이면 태그 역색인)에서 몇 명을 샘플링하고 제외 조건은 그 후보들에 대해서만 DB 확인 (전체 테이블 RAND 정렬 없음)
+ * - 태그 기반 발송은 겹치는 태그 수와 설문 점수 유사도에 비례해 추출(ReceiverDistribution)하고, 없으면 태그 역색인 균등 샘플링
+ * - 풀이 비었거나 조건에 맞는 후보를 찾지 못하면 기존 전체 조회 쿼리로 대체
+ */
+@Component
+@RequiredArgsConstructor
+public class ReceiverSelector {
+
+    /** 한 번에 샘플링할 후보 수 / 최대 시도 횟수 **/
+    private static final int SAMPLE_SIZE = 8;
+    private static final int SAMPLE_ROUNDS = 3;
+
+    private final UserRepository userRepository;
+    private final ReceiverPool receiverPool;
+    private final TagIndex tagIndex;
+    private final ReceiverDistribution receiverDistribution;
+
+    /**
+     * 수신자 선택, 후보가 없으면 RECEIVER_NOT_FOUND
+     * senderTagTypes가 null이면 일반 랜덤 발송
+     */
+    public User select(Integer senderId, List<TagType> senderTagTypes, LocalDateTime oneMonthAgo) {
+        if (senderTagTypes != null) {
+            Integer weighted = selectWeighted(senderId, senderTagTypes, oneMonthAgo);
+            if (weighted != null) return userRepository.getReferenceById(weighted);
+        }
+
+        for (int round = 0; round < SAMPLE_ROUNDS; round++) {
+            List<Integer> sampled = (senderTagTypes == null)
+                    ? receiverPool.sample(SAMPLE_SIZE, senderId)
+                    : tagIndex.sample(senderTagTypes.stream().map(TagType::getId).toList(), SAMPLE_SIZE, senderId);
+            if (sampled.isEmpty()) break;
+
+            List<Integer> eligible = (senderTagTypes == null)
+                    ? userRepository.findEligibleReceiverIds(senderId, sampled, oneMonthAgo)
+                    : userRepository.findEligibleReceiverIdsByTags(senderId, sampled, senderTagTypes, oneMonthAgo);
+            if (!eligible.isEmpty()) {
+                Integer receiverId = eligible.get(ThreadLocalRandom.current().nextInt(eligible.size()));
+                return userRepository.getReferenceById(receiverId);
+            }
+        }
+
+        Pageable page = PageRequest.of(0, 1);
+        List<User> candidates = (senderTagTypes == null)
+                ? userRepository.findRandomReceiver(senderId, oneMonthAgo, page)
+                : userRepository.findRandomReceiverByTags(senderId, senderTagTypes, oneMonthAgo, page);
+        if (candidates.isEmpty()) {
+            throw new ApiException(StatusCode.BAD_REQUEST, Message.RECEIVER_NOT_FOUND);
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * 가중치 비례로 뽑은 후보 중 조건에 맞는 첫 번째 유저 (뽑힌 순서가 곧 가중치 추출 순서), 없으면 null
+     */
+    private Integer selectWeighted(Integer senderId, List<TagType> senderTagTypes, LocalDateTime oneMonthAgo) {
+        List<Integer> tagTypeIds = senderTagTypes.stream().map(TagType::getId).toList();
+        for (int round = 0; round < SAMPLE_ROUNDS; round++) {
+            List<Integer> drawn = receiverDistribution.draw(senderId, tagTypeIds, SAMPLE_SIZE);
+            if (drawn.isEmpty()) return null;
+            Set<Integer> eligible = new HashSet<>(userRepository.findEligibleReceiverIdsByTags(senderId, drawn, senderTagTypes, oneMonthAgo));
+            for (Integer receiverId : drawn) {
+                if (eligible.contains(receiverId)) return receiverId;
+            }
+        }
+        return null;
+    }
+
+}
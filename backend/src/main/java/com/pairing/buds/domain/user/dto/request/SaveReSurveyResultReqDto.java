@@ -16,30 +16,36 @@ import lombok.Setter;
 public class SaveReSurveyResultReqDto {
     
     /**
-     * 설문조사 결과는 각 항목 별로 0 ~ 40점
+     * 설문조사 결과는 은둔 지수 0 ~ 40점 (10문항 합), 나머지 항목은 0 ~ 4점 (1문항)
      * **/
 
     @PositiveOrZero
+    @Max(User.MAX_SECLUSION_SCORE)
     @NotNull
     private int seclusionScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int opennessScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int sociabilityScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int routineScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int quietnessScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int expressionScore;
 
@@ -3,6 +3,7 @@ package com.pairing.buds.domain.user.dto.request;
 import com.pairing.buds.domain.user.entity.TagType;
 import com.pairing.buds.domain.user.entity.User;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
@@ -18,30 +19,36 @@ import java.util.Set;
 public class SaveSurveyResultReqDto {
 
     /**
-     * 설문조사 결과는 각 항목 별로 0 ~ 40점
+     * 설문조사 결과는 은둔 지수 0 ~ 40점 (10문항 합), 나머지 항목은 0 ~ 4점 (1문항)
      * **/
 
     @PositiveOrZero
+    @Max(User.MAX_SECLUSION_SCORE)
     @NotNull
     private int seclusionScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int opennessScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int sociabilityScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int routineScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int quietnessScore;
 
     @PositiveOrZero
+    @Max(User.MAX_ANSWER_SCORE)
     @NotNull
     private int expressionScore;
 
@@ -0,0 +1,24 @@
+package com.pairing.buds.domain.user.dto.response;
+
+/**
+ * 로그인 검증에 필요한 최소 컬럼 (id, 비밀번호 해시, 권한, 활성 여부)
+ * 엔티티 대신 인터페이스 프로젝션으로 조회해 태그/페르소나 등 불필요한 컬럼을 읽지 않음
+ */
+public interface LoginCredentialsDto {
+
+    Integer getId();
+
+    String getEmail();
+
+    String getPassword();
+
+    /** UserRole 이름 (USER / ADMIN) **/
+    String getRole();
+
+    /** 계정 종류 (USER / ADMIN) **/
+    String getPrincipalType();
+
+    /** 활성 여부 (1 / 0) **/
+    Number getActive();
+
+}
@@ -0,0 +1,22 @@
+package com.pairing.buds.domain.user.dto.response;
+
+/**
+ * 페르소나 색인 적재용 (활성 유저의 설문 점수만 조회)
+ */
+public interface UserPersonaDto {
+
+    Integer getId();
+
+    Integer getSeclusionScore();
+
+    Integer getOpennessScore();
+
+    Integer getSociabilityScore();
+
+    Integer getRoutineScore();
+
+    Integer getQuietnessScore();
+
+    Integer getExpressionScore();
+
+}
@@ -0,0 +1,14 @@
+package com.pairing.buds.domain.user.dto.response;
+
+/**
+ * 태그 역색인 적재용 (user_tags 행의 id만 조회)
+ */
+public interface UserTagIdDto {
+
+    Integer getId();
+
+    Integer getUserId();
+
+    Integer getTagTypeId();
+
+}
@@ -3,6 +3,7 @@ package com.pairing.buds.domain.user.entity;
 import com.pairing.buds.common.basetime.CUBaseTime;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
@@ -15,9 +16,21 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "users")
+@DynamicUpdate // letter_cnt 는 조건부 UPDATE로만 변경하므로, 엔티티 저장 시 변경된 컬럼만 갱신해 덮어쓰지 않도록 함
+@Table(
+        name = "users",
+        indexes = {
+                // 로그인 자격 증명 조회용 커버링 인덱스 (user_id 는 PK 라 자동 포함)
+                @Index(name = "idx_users_login", columnList = "user_email, is_active, password, role")
+        }
+)
 public class User extends CUBaseTime {
 
+    /** 은둔 지수 최대 점수 (10문항 합, 0 ~ 40점) **/
+    public static final int MAX_SECLUSION_SCORE = 40;
+    /** 나머지 설문 항목 최대 점수 (1문항, 0 ~ 4점) **/
+    public static final int MAX_ANSWER_SCORE = 4;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
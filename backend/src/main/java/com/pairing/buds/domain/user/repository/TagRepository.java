@@ -1,5 +1,6 @@
 package com.pairing.buds.domain.user.repository;
 
+import com.pairing.buds.domain.user.dto.response.UserTagIdDto;
 import com.pairing.buds.domain.user.entity.Tag;
 import com.pairing.buds.domain.user.entity.User;
 import org.springframework.data.domain.Pageable;
@@ -14,30 +15,48 @@ import java.util.Set;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Integer> {
 
+    /** 태그가 하나 이상 겹치고 편지를 주고받은 적 없는 유저 (편지 이력은 matches 기본키 조회) **/
     @Query("""
         SELECT DISTINCT u2
           FROM User u2
           JOIN u2.tags t2
          WHERE t2.tagType IN (
                SELECT t1.tagType
-                 FROM User u1, Letter l
-                 JOIN u1.tags t1
-                WHERE u1.id = :userId
+                 FROM Tag t1
+                WHERE t1.user.id = :userId
                )
            AND u2.id <> :userId
-           AND u2.id NOT IN (
-                        SELECT l.receiver.id
-                          FROM Letter l
-                         WHERE l.sender.id = :userId
-                      )
-                    AND u2.id NOT IN (
-                        SELECT l.sender.id
-                          FROM Letter l
-                         WHERE l.receiver.id = :userId
-                      )
+           AND NOT EXISTS (SELECT m FROM Match m WHERE m.id.user1 = :userId AND m.id.user2 = u2.id)
+           AND NOT EXISTS (SELECT m FROM Match m WHERE m.id.user1 = u2.id AND m.id.user2 = :userId)
     """)
     List<User> findTop10RecommendedUsers(
             @Param("userId") Integer userId,
             Pageable pageable
     );
+
+    /** 태그 역색인 적재용 활성 유저의 (유저, 태그) 쌍 (user_tag_id 커서 기준) **/
+    @Query("""
+        SELECT t.id AS id, t.user.id AS userId, t.tagType.id AS tagTypeId
+          FROM Tag t
+         WHERE t.user.isActive = true
+           AND t.id > :afterId
+         ORDER BY t.id
+    """)
+    List<UserTagIdDto> findActiveUserTagIdsAfter(
+            @Param("afterId") Integer afterId,
+            Pageable pageable
+    );
+
+    /** 친구 추천 배치용 활성 유저의 (유저, 태그) 쌍 (user_id 커서 기준, 유저별로 모여서 조회) **/
+    @Query("""
+        SELECT t.id AS id, t.user.id AS userId, t.tagType.id AS tagTypeId
+          FROM Tag t
+         WHERE t.user.isActive = true
+           AND t.user.id > :afterUserId
+         ORDER BY t.user.id, t.tagType.id
+    """)
+    List<UserTagIdDto> findActiveUserTagsAfterUser(
+            @Param("afterUserId") Integer afterUserId,
+            Pageable pageable
+    );
 }
@@ -1,5 +1,7 @@
 package com.pairing.buds.domain.user.repository;
 
+import com.pairing.buds.domain.user.dto.response.LoginCredentialsDto;
+import com.pairing.buds.domain.user.dto.response.UserPersonaDto;
 import com.pairing.buds.domain.user.entity.TagType;
 import com.pairing.buds.domain.user.entity.User;
 import jakarta.validation.constraints.Email;
@@ -46,6 +48,7 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     /**
      * 편지 랜덤 발송
+     * 편지 이력 조건은 matches (user1_id < user2_id 쌍) 기본키 조회로 확인
      * - u.id <> :senderId
      * - u.isActive = true
      * - 상대가 답장(B→A)한 적이 있으면 무조건 제외
@@ -58,17 +61,16 @@ public interface UserRepository extends JpaRepository<User, Integer> {
         WHERE u.id <> :senderId
           AND u.isActive = true
           AND NOT EXISTS (
-            SELECT l
-            FROM Letter l
-            WHERE
-              (
-                l.sender.id   = u.id AND l.receiver.id = :senderId
-              )
-              OR
-              (
-                l.sender.id   = :senderId AND l.receiver.id = u.id
-                AND l.createdAt >= :oneMonthAgo
-              )
+            SELECT m
+            FROM Match m
+            WHERE m.id.user1 = :senderId AND m.id.user2 = u.id
+              AND (m.user2LastSentAt IS NOT NULL OR m.user1LastSentAt >= :oneMonthAgo)
+          )
+          AND NOT EXISTS (
+            SELECT m
+            FROM Match m
+            WHERE m.id.user1 = u.id AND m.id.user2 = :senderId
+              AND (m.user1LastSentAt IS NOT NULL OR m.user2LastSentAt >= :oneMonthAgo)
           )
         ORDER BY function('RAND')
         """)
@@ -94,17 +96,16 @@ public interface UserRepository extends JpaRepository<User, Integer> {
           AND u.isActive = true
           AND t.tagType IN :senderTagTypes
           AND NOT EXISTS (
-            SELECT l
-            FROM Letter l
-            WHERE
-              (
-                l.sender.id   = u.id AND l.receiver.id = :senderId
-              )
-              OR
-              (
-                l.sender.id   = :senderId AND l.receiver.id = u.id
-                AND l.createdAt >= :oneMonthAgo
-              )
+            SELECT m
+            FROM Match m
+            WHERE m.id.user1 = :senderId AND m.id.user2 = u.id
+              AND (m.user2LastSentAt IS NOT NULL OR m.user1LastSentAt >= :oneMonthAgo)
+          )
+          AND NOT EXISTS (
+            SELECT m
+            FROM Match m
+            WHERE m.id.user1 = u.id AND m.id.user2 = :senderId
+              AND (m.user1LastSentAt IS NOT NULL OR m.user2LastSentAt >= :oneMonthAgo)
           )
         ORDER BY function('RAND')
         """)
@@ -115,16 +116,186 @@ public interface UserRepository extends JpaRepository<User, Integer> {
             Pageable pageable
     );
 
+    /** 수신자 후보 풀 적재용 활성 유저 id (id 커서 기준) **/
+    @Query("""
+        SELECT u.id
+        FROM User u
+        WHERE u.isActive = true
+          AND u.id > :afterId
+        ORDER BY u.id
+        """)
+    List<Integer> findActiveUserIdsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * 풀에서 샘플링한 후보 중 실제로 받을 수 있는 유저 id
+     * findRandomReceiver와 같은 조건을 후보 몇 명(:candidateIds)에 대해서만 확인
+     */
+    @Query("""
+        SELECT u.id
+        FROM User u
+        WHERE u.id IN :candidateIds
+          AND u.id <> :senderId
+          AND u.isActive = true
+          AND NOT EXISTS (
+            SELECT m
+            FROM Match m
+            WHERE m.id.user1 = :senderId AND m.id.user2 = u.id
+              AND (m.user2LastSentAt IS NOT NULL OR m.user1LastSentAt >= :oneMonthAgo)
+          )
+          AND NOT EXISTS (
+            SELECT m
+            FROM Match m
+            WHERE m.id.user1 = u.id AND m.id.user2 = :senderId
+              AND (m.user1LastSentAt IS NOT NULL OR m.user2LastSentAt >= :oneMonthAgo)
+          )
+        """)
+    List<Integer> findEligibleReceiverIds(
+            @Param("senderId")     Integer senderId,
+            @Param("candidateIds") List<Integer> candidateIds,
+            @Param("oneMonthAgo")  LocalDateTime oneMonthAgo
+    );
+
+    /** 위 조건 + 태그 1개 이상 일치 **/
+    @Query("""
+        SELECT u.id
+        FROM User u
+        WHERE u.id IN :candidateIds
+          AND u.id <> :senderId
+          AND u.isActive = true
+          AND EXISTS (
+            SELECT t
+            FROM Tag t
+            WHERE t.user = u
+              AND t.tagType IN :senderTagTypes
+          )
+          AND NOT EXISTS (
+            SELECT m
+            FROM Match m
+            WHERE m.id.user1 = :senderId AND m.id.user2 = u.id
+              AND (m.user2LastSentAt IS NOT NULL OR m.user1LastSentAt >= :oneMonthAgo)
+          )
+          AND NOT EXISTS (
+            SELECT m
+            FROM Match m
+            WHERE m.id.user1 = u.id AND m.id.user2 = :senderId
+              AND (m.user1LastSentAt IS NOT NULL OR m.user2LastSentAt >= :oneMonthAgo)
+          )
+        """)
+    List<Integer> findEligibleReceiverIdsByTags(
+            @Param("senderId")       Integer senderId,
+            @Param("candidateIds")   List<Integer> candidateIds,
+            @Param("senderTagTypes") List<TagType> senderTagTypes,
+            @Param("oneMonthAgo")    LocalDateTime oneMonthAgo
+    );
+
+    /** 친구 추천 후보 중 서로 편지를 주고받은 적 없는 활성 유저 **/
+    @Query("""
+        SELECT u
+        FROM User u
+        WHERE u.id IN :candidateIds
+          AND u.id <> :userId
+          AND u.isActive = true
+          AND NOT EXISTS (SELECT m FROM Match m WHERE m.id.user1 = :userId AND m.id.user2 = u.id)
+          AND NOT EXISTS (SELECT m FROM Match m WHERE m.id.user1 = u.id AND m.id.user2 = :userId)
+        """)
+    List<User> findUsersWithoutLetterHistory(
+            @Param("userId")       Integer userId,
+            @Param("candidateIds") List<Integer> candidateIds
+    );
+
+    /** 위 조건 + 태그 1개 이상 일치 (페르소나 최근접 후보 확인) **/
+    @Query("""
+        SELECT u
+        FROM User u
+        WHERE u.id IN :candidateIds
+          AND u.id <> :userId
+          AND u.isActive = true
+          AND EXISTS (
+            SELECT t
+            FROM Tag t
+            WHERE t.user = u
+              AND t.tagType.id IN :tagTypeIds
+          )
+          AND NOT EXISTS (SELECT m FROM Match m WHERE m.id.user1 = :userId AND m.id.user2 = u.id)
+          AND NOT EXISTS (SELECT m FROM Match m WHERE m.id.user1 = u.id AND m.id.user2 = :userId)
+        """)
+    List<User> findUsersWithoutLetterHistoryByTags(
+            @Param("userId")       Integer userId,
+            @Param("candidateIds") List<Integer> candidateIds,
+            @Param("tagTypeIds")   List<Integer> tagTypeIds
+    );
+
+    /** 페르소나 색인 적재용 가입(설문)을 마친 활성 유저 점수 (id 커서 기준) **/
+    @Query("""
+        SELECT u.id AS id,
+               u.seclusionScore AS seclusionScore,
+               u.opennessScore AS opennessScore,
+               u.sociabilityScore AS sociabilityScore,
+               u.routineScore AS routineScore,
+               u.quietnessScore AS quietnessScore,
+               u.expressionScore AS expressionScore
+        FROM User u
+        WHERE u.isActive = true
+          AND u.isCompleted = com.pairing.buds.domain.user.entity.SignupStatus.DONE
+          AND u.id > :afterId
+        ORDER BY u.id
+        """)
+    List<UserPersonaDto> findActivePersonasAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /** 편지 토큰 1개 차감 (잔액이 있을 때만), 영향 행 수 반환 **/
+    @Modifying
+    @Query("UPDATE User u SET u.letterCnt = u.letterCnt - 1 WHERE u.id = :userId AND u.letterCnt > 0")
+    int decrementLetterCnt(@Param("userId") Integer userId);
+
+    /** 편지 토큰 지급, 영향 행 수 반환 **/
+    @Modifying
+    @Query("UPDATE User u SET u.letterCnt = u.letterCnt + :amount WHERE u.id = :userId")
+    int incrementLetterCnt(@Param("userId") Integer userId, @Param("amount") int amount);
+
+    /** 활성 유저 중 잔액이 :target 미만이면 :target으로 채움 **/
+    @Modifying
+    @Query("UPDATE User u SET u.letterCnt = :target WHERE u.isActive = true AND u.letterCnt >= 0 AND u.letterCnt < :target")
+    int replenishLetterCnt(@Param("target") int target);
+
     boolean existsByUserEmailAndIsActiveTrue(@NotBlank @Email String userEmail);
 
     Optional<User> findByUserEmailAndIsActiveTrue(String email);
 
+    /**
+     * 로그인용 자격 증명 조회 (관리자 / 활성 사용자 통합)
+     * - admin_email, user_email 인덱스만 타는 단일 쿼리
+     * - 같은 이메일이 양쪽에 있으면 관리자 우선
+     */
+    @Query(value = """
+        SELECT c.id, c.email, c.password, c.role, c.principalType, c.active
+        FROM (
+            SELECT a.admin_id AS id, a.admin_email AS email, a.password AS password, a.role AS role,
+                   'ADMIN' AS principalType, 1 AS active, 0 AS priority
+            FROM admin a
+            WHERE a.admin_email = :email
+            UNION ALL
+            SELECT u.user_id, u.user_email, u.password, u.role,
+                   'USER', CAST(u.is_active AS UNSIGNED), 1
+            FROM users u
+            WHERE u.user_email = :email
+              AND u.is_active = TRUE
+        ) c
+        ORDER BY c.priority
+        LIMIT 1
+        """, nativeQuery = true)
+    Optional<LoginCredentialsDto> findLoginCredentialsByEmail(@Param("email") String email);
+
     List<User> findByIsActiveTrueAndLetterCntBetween(Integer min, Integer max);
 
     @Modifying
     @Query("DELETE FROM Tag t WHERE t.user.id = :userId")
     void deleteTagsByUserId(@Param("userId") Integer userId);
 
+    /** 비밀번호 해시 교체 (로그인 시 재해시, 활성 유저만) **/
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.userEmail = :userEmail AND u.isActive = true")
+    int updatePasswordByUserEmail(@Param("userEmail") String userEmail, @Param("password") String password);
+
 //    @Query(value = """
 //        SELECT DISTINCT u.*
 //        FROM users u
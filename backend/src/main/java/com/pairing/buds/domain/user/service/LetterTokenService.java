@@ -0,0 +1,64 @@
+package com.pairing.buds.domain.user.service;
+
+import com.pairing.buds.common.exception.ApiException;
+import com.pairing.buds.common.response.Message;
+import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.domain.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 편지 토큰(letter_cnt) 증감
+ * - 엔티티를 읽고 고쳐 쓰지 않고, 조건부 UPDATE 한 문장으로 처리해 동시 요청에서도 갱신 유실/음수 잔액이 없음
+ * - 결과는 UPDATE 영향 행 수로 판단 (0이면 잔액 부족 또는 유저 없음)
+ * 호출 측 트랜잭션에 참여하므로 이후 단계에서 예외가 나면 차감/지급도 함께 롤백
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LetterTokenService {
+
+    /** 활동 리워드로 지급하는 편지 수 **/
+    public static final int REWARD_AMOUNT = 3;
+    /** 매일 자정 채워주는 최소 편지 수 **/
+    public static final int DAILY_MINIMUM = 5;
+
+    private final UserRepository userRepository;
+
+    /** 1개 차감 시도, 잔액이 있어 차감되었으면 true **/
+    @Transactional
+    public boolean tryConsume(int userId) {
+        return userRepository.decrementLetterCnt(userId) == 1;
+    }
+
+    /** 1개 차감, 잔액이 없으면 예외 **/
+    @Transactional
+    public void consume(int userId) {
+        if (!tryConsume(userId)) {
+            throw new ApiException(StatusCode.BAD_REQUEST, Message.OUT_OF_LETTER_TOKEN);
+        }
+    }
+
+    /** amount개 지급 **/
+    @Transactional
+    public void grant(int userId, int amount) {
+        if (userRepository.incrementLetterCnt(userId, amount) == 0) {
+            throw new ApiException(StatusCode.NOT_FOUND, Message.USER_NOT_FOUND);
+        }
+    }
+
+    /** 차감했던 1개 반환 (발송 실패 등) **/
+    @Transactional
+    public void refund(int userId) {
+        userRepository.incrementLetterCnt(userId, 1);
+    }
+
+    /** 활성 유저 중 잔액이 DAILY_MINIMUM 미만인 유저를 DAILY_MINIMUM으로 채움, 갱신된 유저 수 반환 **/
+    @Transactional
+    public int replenishDaily() {
+        return userRepository.replenishLetterCnt(DAILY_MINIMUM);
+    }
+
+}
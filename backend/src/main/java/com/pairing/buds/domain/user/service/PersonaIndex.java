@@ -0,0 +1,382 @@
+package com.pairing.buds.domain.user.service;
+
+import com.pairing.buds.common.utils.TransactionUtils;
+import com.pairing.buds.domain.user.dto.response.UserPersonaDto;
+import com.pairing.buds.domain.user.entity.SignupStatus;
+import com.pairing.buds.domain.user.entity.User;
+import com.pairing.buds.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 페르소나 점수(설문 6개 항목) 최근접 이웃 색인
+ * - 활성 유저의 점수 벡터를 정적 k-d 트리(배열 중앙값 배치)로 적재, 주기적으로 전체 재적재
+ * - 그 사이 설문/재설문, 활성화/탈퇴는 변경분에 기록하고 검색 시 트리와 함께 선형 탐색 (트리 안의 옛 좌표는 건너뜀)
+ * - 변경은 커밋 이후 로컬 반영 + Redis pub/sub으로 다른 노드에 전파
+ * - 항목마다 점수 범위가 달라(은둔 지수 0~40, 나머지 0~4) 모두 0 ~ SCALE 로 맞춘 좌표로 색인 (한 항목이 거리를 좌우하지 않도록)
+ * - 가입(설문)을 마치지 않은 유저는 색인하지 않음 (모든 항목에 0점으로 답한 유저는 색인)
+ * 이웃은 후보일 뿐이고 태그, 편지 이력 등 조건은 호출 측에서 뽑힌 몇 명에 대해서만 DB에서 확인
+ */
+@Slf4j
+@Component
+public class PersonaIndex {
+
+    public static final int DIMENSIONS = 6;
+    /** 좌표 범위 (항목별 점수를 0 ~ SCALE 로 환산) **/
+    public static final int SCALE = 40;
+    /** 항목별 최대 점수 (toVector 인자 순서) **/
+    private static final int[] MAX_SCORES = {
+            User.MAX_SECLUSION_SCORE, User.MAX_ANSWER_SCORE, User.MAX_ANSWER_SCORE,
+            User.MAX_ANSWER_SCORE, User.MAX_ANSWER_SCORE, User.MAX_ANSWER_SCORE
+    };
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    /** 메시지 형식 "userId:s1,s2,s3,s4,s5,s6" (탈퇴/비활성화/가입 미완료는 "userId:") **/
+    private static final String CHANNEL = "persona-index";
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /** 읽기는 락 없이 스냅샷 참조 **/
+    private volatile Tree tree = Tree.EMPTY;
+    /** 마지막 적재 이후 변경분 (vector가 null이면 제외) **/
+    private final Map<Integer, Change> changes = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public PersonaIndex(UserRepository userRepository,
+                        @Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                        RedisMessageListenerContainer listenerContainer) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message), new ChannelTopic(CHANNEL));
+    }
+
+    /** 기동 완료 후 최초 적재 **/
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /** 전체 재적재 (적재 시작 이전 변경분은 DB에 이미 반영되어 있으므로 정리) **/
+    @Scheduled(fixedDelayString = "${persona-index.rebuild-millis:3600000}", initialDelayString = "${persona-index.rebuild-millis:3600000}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        int[] ids = new int[Math.max(16, tree.size)];
+        byte[] coords = new byte[ids.length * DIMENSIONS];
+        int size = 0;
+        int lastId = 0;
+        while (true) {
+            List<UserPersonaDto> batch = userRepository.findActivePersonasAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) break;
+            if (size + batch.size() > ids.length) {
+                int capacity = Math.max(size + batch.size(), ids.length * 2);
+                ids = Arrays.copyOf(ids, capacity);
+                coords = Arrays.copyOf(coords, capacity * DIMENSIONS);
+            }
+            for (UserPersonaDto row : batch) {
+                byte[] vector = toVector(row.getSeclusionScore(), row.getOpennessScore(), row.getSociabilityScore(),
+                        row.getRoutineScore(), row.getQuietnessScore(), row.getExpressionScore());
+                ids[size] = row.getId();
+                System.arraycopy(vector, 0, coords, size * DIMENSIONS, DIMENSIONS);
+                size++;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+            if (batch.size() < LOAD_BATCH_SIZE) break;
+        }
+
+        Tree fresh = Tree.build(ids, coords, size);
+        synchronized (this) {
+            tree = fresh;
+            changes.values().removeIf(change -> change.at < startedAt);
+        }
+        ready = true;
+        log.info("페르소나 색인 적재 완료: {}명", size);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 설문 점수 변경, 활성화 (트랜잭션 커밋 후 반영) **/
+    public void updateUser(User user) {
+        int userId = user.getId();
+        byte[] vector = user.getIsCompleted() != SignupStatus.DONE ? null
+                : toVector(user.getSeclusionScore(), user.getOpennessScore(), user.getSociabilityScore(),
+                        user.getRoutineScore(), user.getQuietnessScore(), user.getExpressionScore());
+        StringBuilder body = new StringBuilder().append(userId).append(':');
+        if (vector != null) {
+            for (int i = 0; i < DIMENSIONS; i++) {
+                if (i > 0) body.append(',');
+                body.append(vector[i]);
+            }
+        }
+        TransactionUtils.afterCommit(() -> {
+            apply(userId, vector);
+            redisTemplate.convertAndSend(CHANNEL, body.toString());
+        });
+    }
+
+    /** 탈퇴/비활성화 유저 제외 (트랜잭션 커밋 후 반영) **/
+    public void removeUser(int userId) {
+        TransactionUtils.afterCommit(() -> {
+            apply(userId, null);
+            redisTemplate.convertAndSend(CHANNEL, userId + ":");
+        });
+    }
+
+    /** 색인된 점수 벡터 (색인되지 않은 유저면 null) **/
+    public byte[] vectorOf(int userId) {
+        Change change = changes.get(userId);
+        if (change != null) return change.vector;
+        Tree current = tree;
+        int pos = Arrays.binarySearch(current.sortedIds, 0, current.size, userId);
+        if (pos < 0) return null;
+        int node = current.nodeOf[pos];
+        return Arrays.copyOfRange(current.coords, node * DIMENSIONS, (node + 1) * DIMENSIONS);
+    }
+
+    /**
+     * query에 가까운 유저 id를 최대 k명, 가까운 순으로 반환 (제곱 유클리드 거리, excludeId 제외)
+     * 같은 거리는 id가 작은 쪽 우선
+     */
+    public List<Integer> nearest(byte[] query, int k, int excludeId) {
+        if (k <= 0) return List.of();
+        Collector collector = new Collector(k, excludeId, changes);
+        Tree current = tree;
+        search(current, 0, current.size, 0, query, collector);
+        for (Map.Entry<Integer, Change> e : changes.entrySet()) {
+            byte[] vector = e.getValue().vector;
+            if (vector == null || e.getKey() == excludeId) continue;
+            collector.offer(e.getKey(), distance(vector, 0, query));
+        }
+        return collector.result();
+    }
+
+    private static void search(Tree t, int lo, int hi, int depth, byte[] query, Collector collector) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        int id = t.ids[mid];
+        if (!collector.skipsTreeNode(id)) {
+            collector.offer(id, distance(t.coords, mid * DIMENSIONS, query));
+        }
+        int dim = depth % DIMENSIONS;
+        int diff = query[dim] - t.coords[mid * DIMENSIONS + dim];
+        if (diff < 0) {
+            search(t, lo, mid, depth + 1, query, collector);
+            if (collector.accepts(diff * diff)) search(t, mid + 1, hi, depth + 1, query, collector);
+        } else {
+            search(t, mid + 1, hi, depth + 1, query, collector);
+            if (collector.accepts(diff * diff)) search(t, lo, mid, depth + 1, query, collector);
+        }
+    }
+
+    private static int distance(byte[] coords, int offset, byte[] query) {
+        int sum = 0;
+        for (int i = 0; i < DIMENSIONS; i++) {
+            int d = coords[offset + i] - query[i];
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    /** 설문 점수 → 좌표 (항목별 최대 점수로 제한한 뒤 0 ~ SCALE 로 환산, 반올림) **/
+    static byte[] toVector(Integer... scores) {
+        byte[] vector = new byte[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            int max = MAX_SCORES[i];
+            int score = scores[i] == null ? 0 : Math.max(0, Math.min(max, scores[i]));
+            vector[i] = (byte) ((score * SCALE * 2 + max) / (2 * max));
+        }
+        return vector;
+    }
+
+    private void apply(int userId, byte[] vector) {
+        changes.put(userId, new Change(vector, System.currentTimeMillis()));
+    }
+
+    // 다른 노드(자기 자신 포함)의 변경 수신, 같은 변경을 다시 적용해도 결과는 동일
+    private void onMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int sep = body.indexOf(':');
+            int userId = Integer.parseInt(body.substring(0, sep));
+            String rest = body.substring(sep + 1);
+            byte[] vector = null;
+            if (!rest.isEmpty()) {
+                String[] parts = rest.split(",");
+                vector = new byte[DIMENSIONS];
+                for (int i = 0; i < DIMENSIONS; i++) {
+                    vector[i] = Byte.parseByte(parts[i]);
+                }
+            }
+            apply(userId, vector);
+        } catch (RuntimeException e) {
+            log.warn("잘못된 페르소나 색인 메시지: {}", body);
+        }
+    }
+
+    private static final class Change {
+        private final byte[] vector;
+        private final long at;
+
+        private Change(byte[] vector, long at) {
+            this.vector = vector;
+            this.at = at;
+        }
+    }
+
+    /** 거리 기준 상위 k개 (최대 힙, 키 = 거리 << 32 | id) **/
+    private static final class Collector {
+        private final int k;
+        private final int excludeId;
+        private final Map<Integer, Change> changes;
+        private final PriorityQueue<Long> heap;
+
+        private Collector(int k, int excludeId, Map<Integer, Change> changes) {
+            this.k = k;
+            this.excludeId = excludeId;
+            this.changes = changes;
+            this.heap = new PriorityQueue<>(k + 1, Comparator.reverseOrder());
+        }
+
+        // 변경분에 있는 유저는 트리 좌표가 오래되었으므로 트리에서는 건너뜀
+        private boolean skipsTreeNode(int id) {
+            return id == excludeId || changes.containsKey(id);
+        }
+
+        private void offer(int id, int distance) {
+            long key = ((long) distance << 32) | (id & 0xFFFFFFFFL);
+            if (heap.size() < k) {
+                heap.add(key);
+            } else if (key < heap.peek()) {
+                heap.poll();
+                heap.add(key);
+            }
+        }
+
+        // 같은 거리라도 id가 더 작은 유저가 있을 수 있으므로 k번째 거리와 같은 경우도 탐색
+        private boolean accepts(int bound) {
+            return heap.size() < k || bound <= (heap.peek() >>> 32);
+        }
+
+        private List<Integer> result() {
+            long[] keys = heap.stream().mapToLong(Long::longValue).sorted().toArray();
+            List<Integer> ids = new ArrayList<>(keys.length);
+            for (long key : keys) {
+                ids.add((int) key);
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 배열에 펼친 k-d 트리
+     * [lo, hi) 구간의 중앙(mid)이 노드, 깊이 % 6 번째 점수 기준으로 왼쪽은 작거나 같고 오른쪽은 크거나 같음
+     */
+    private static final class Tree {
+        private static final Tree EMPTY = new Tree(new int[0], new byte[0], 0, new int[0], new int[0]);
+
+        private final int[] ids;
+        private final byte[] coords;
+        private final int size;
+        /** id 오름차순 / 해당 id의 트리 내 위치 (vectorOf 조회용) **/
+        private final int[] sortedIds;
+        private final int[] nodeOf;
+
+        private Tree(int[] ids, byte[] coords, int size, int[] sortedIds, int[] nodeOf) {
+            this.ids = ids;
+            this.coords = coords;
+            this.size = size;
+            this.sortedIds = sortedIds;
+            this.nodeOf = nodeOf;
+        }
+
+        /** ids는 id 오름차순으로 적재되어 있어야 함 **/
+        private static Tree build(int[] ids, byte[] coords, int size) {
+            int[] sortedIds = Arrays.copyOf(ids, size);
+            int[] treeIds = Arrays.copyOf(ids, size);
+            byte[] treeCoords = Arrays.copyOf(coords, size * DIMENSIONS);
+            partition(treeIds, treeCoords, 0, size, 0);
+
+            int[] nodeOf = new int[size];
+            for (int node = 0; node < size; node++) {
+                nodeOf[Arrays.binarySearch(sortedIds, treeIds[node])] = node;
+            }
+            return new Tree(treeIds, treeCoords, size, sortedIds, nodeOf);
+        }
+
+        private static void partition(int[] ids, byte[] coords, int lo, int hi, int depth) {
+            if (hi - lo <= 1) return;
+            int mid = (lo + hi) >>> 1;
+            select(ids, coords, lo, hi, mid, depth % DIMENSIONS);
+            partition(ids, coords, lo, mid, depth + 1);
+            partition(ids, coords, mid + 1, hi, depth + 1);
+        }
+
+        /** [lo, hi) 에서 dim 기준 target번째 원소를 제자리에 (3-way 분할, 같은 점수가 많아도 선형) **/
+        private static void select(int[] ids, byte[] coords, int lo, int hi, int target, int dim) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (hi - lo > 1) {
+                int pivot = coords[(lo + random.nextInt(hi - lo)) * DIMENSIONS + dim];
+                int lt = lo;
+                int i = lo;
+                int gt = hi;
+                while (i < gt) {
+                    int c = coords[i * DIMENSIONS + dim];
+                    if (c < pivot) {
+                        swap(ids, coords, lt++, i++);
+                    } else if (c > pivot) {
+                        swap(ids, coords, i, --gt);
+                    } else {
+                        i++;
+                    }
+                }
+                if (target < lt) {
+                    hi = lt;
+                } else if (target >= gt) {
+                    lo = gt;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private static void swap(int[] ids, byte[] coords, int a, int b) {
+            if (a == b) return;
+            int id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            for (int i = 0; i < DIMENSIONS; i++) {
+                byte c = coords[a * DIMENSIONS + i];
+                coords[a * DIMENSIONS + i] = coords[b * DIMENSIONS + i];
+                coords[b * DIMENSIONS + i] = c;
+            }
+        }
+    }
+
+}
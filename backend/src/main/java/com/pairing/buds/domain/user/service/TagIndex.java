@@ -0,0 +1,243 @@
+package com.pairing.buds.domain.user.service;
+
+import com.pairing.buds.common.utils.CompressedBitmap;
+import com.pairing.buds.common.utils.TransactionUtils;
+import com.pairing.buds.domain.user.dto.response.UserTagIdDto;
+import com.pairing.buds.domain.user.repository.TagRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 역색인 (TagType id → 해당 태그를 가진 활성 유저 id 압축 비트맵)
+ * - 기동 시 / 주기적으로 user_tags 전체 재적재
+ * - 태그 변경, 탈퇴 시 커밋 이후 로컬 반영 + Redis pub/sub으로 다른 노드에 전파
+ * - 태그 기반 후보 선택은 DB 조인 없이 비트맵에서 임의 샘플링, 조건 재확인은 뽑힌 몇 명에 대해서만 DB에서 수행
+ */
+@Slf4j
+@Component
+public class TagIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    /** 메시지 형식 "userId:tagTypeId,tagTypeId" (탈퇴/태그 없음은 "userId:") **/
+    private static final String CHANNEL = "tag-index";
+
+    private final TagRepository tagRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, CompressedBitmap> byTag = new HashMap<>();
+    private volatile boolean ready;
+    private volatile long builtAt;
+
+    public TagIndex(TagRepository tagRepository,
+                    @Qualifier("CustomRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                    RedisMessageListenerContainer listenerContainer) {
+        this.tagRepository = tagRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message), new ChannelTopic(CHANNEL));
+    }
+
+    /** 기동 완료 후 최초 적재 **/
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /** 전체 재적재 (노드 간 누락된 변경 보정) **/
+    @Scheduled(fixedDelayString = "${tag-index.rebuild-millis:3600000}", initialDelayString = "${tag-index.rebuild-millis:3600000}")
+    public void rebuild() {
+        Map<Integer, CompressedBitmap> fresh = new HashMap<>();
+        int lastId = 0;
+        int rows = 0;
+        while (true) {
+            List<UserTagIdDto> batch = tagRepository.findActiveUserTagIdsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) break;
+            for (UserTagIdDto row : batch) {
+                fresh.computeIfAbsent(row.getTagTypeId(), k -> new CompressedBitmap()).add(row.getUserId());
+            }
+            rows += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+            if (batch.size() < LOAD_BATCH_SIZE) break;
+        }
+
+        lock.writeLock().lock();
+        try {
+            byTag = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        builtAt = System.currentTimeMillis();
+        ready = true;
+        log.info("태그 역색인 적재 완료: 태그 {}개, 행 {}개", fresh.size(), rows);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 유저의 태그 교체 (트랜잭션 커밋 후 반영) **/
+    public void updateUser(int userId, Collection<Integer> tagTypeIds) {
+        String body = userId + ":" + tagTypeIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        TransactionUtils.afterCommit(() -> {
+            apply(userId, tagTypeIds);
+            redisTemplate.convertAndSend(CHANNEL, body);
+        });
+    }
+
+    /** 탈퇴/비활성화 유저 제거 (트랜잭션 커밋 후 반영) **/
+    public void removeUser(int userId) {
+        updateUser(userId, List.of());
+    }
+
+    /**
+     * 태그 중 하나 이상을 가진 유저 id를 최대 count개 임의 샘플링
+     * 합집합을 만들지 않고 카디널리티 비례로 태그를 고른 뒤 원소를 뽑고,
+     * 뽑힌 유저가 가진 (선택된) 태그 수 k에 대해 1/k 확률로 채택해 합집합 위에서 균등 추출
+     */
+    public List<Integer> sample(Collection<Integer> tagTypeIds, int count, int excludeId) {
+        lock.readLock().lock();
+        try {
+            List<CompressedBitmap> bitmaps = new ArrayList<>();
+            List<Integer> cards = new ArrayList<>();
+            long total = 0;
+            for (Integer tagTypeId : new LinkedHashSet<>(tagTypeIds)) {
+                CompressedBitmap bitmap = byTag.get(tagTypeId);
+                if (bitmap == null || bitmap.isEmpty()) continue;
+                int card = bitmap.cardinality();
+                bitmaps.add(bitmap);
+                cards.add(card);
+                total += card;
+            }
+            if (total == 0) return List.of();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Set<Integer> picked = new LinkedHashSet<>(count * 2);
+            int tries = count * 8;
+            while (picked.size() < count && tries-- > 0) {
+                long r = random.nextLong(total);
+                int i = 0;
+                while (r >= cards.get(i)) {
+                    r -= cards.get(i);
+                    i++;
+                }
+                int userId = bitmaps.get(i).select((int) r);
+                if (userId == excludeId) continue;
+
+                int owners = 0;
+                for (CompressedBitmap bitmap : bitmaps) {
+                    if (bitmap.contains(userId)) owners++;
+                }
+                if (owners > 1 && random.nextInt(owners) != 0) continue;
+                picked.add(userId);
+            }
+            return List.copyOf(picked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 유저가 가진 태그 id (오름차순, 색인에 없으면 빈 배열) **/
+    public int[] tagsOf(int userId) {
+        lock.readLock().lock();
+        try {
+            return byTag.entrySet().stream()
+                    .filter(e -> e.getValue().contains(userId))
+                    .mapToInt(Map.Entry::getKey)
+                    .sorted()
+                    .toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 태그별 유저 수 / 메모리 사용량 (actuator) **/
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> tags = new LinkedHashMap<>();
+            long totalBytes = 0;
+            long totalEntries = 0;
+            for (Map.Entry<Integer, CompressedBitmap> e : byTag.entrySet()) {
+                long bytes = e.getValue().sizeInBytes();
+                int card = e.getValue().cardinality();
+                tags.put(String.valueOf(e.getKey()), Map.of("users", card, "bytes", bytes));
+                totalBytes += bytes;
+                totalEntries += card;
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ready", ready);
+            stats.put("builtAt", builtAt);
+            stats.put("tagCount", byTag.size());
+            stats.put("entries", totalEntries);
+            stats.put("bytes", totalBytes);
+            stats.put("tags", tags);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(int userId, Collection<Integer> tagTypeIds) {
+        lock.writeLock().lock();
+        try {
+            for (CompressedBitmap bitmap : byTag.values()) {
+                bitmap.remove(userId);
+            }
+            for (Integer tagTypeId : tagTypeIds) {
+                byTag.computeIfAbsent(tagTypeId, k -> new CompressedBitmap()).add(userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 다른 노드(자기 자신 포함)의 변경 수신, 같은 변경을 다시 적용해도 결과는 동일
+    private void onMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int sep = body.indexOf(':');
+            int userId = Integer.parseInt(body.substring(0, sep));
+            String rest = body.substring(sep + 1);
+            List<Integer> tagTypeIds = new ArrayList<>();
+            if (!rest.isEmpty()) {
+                for (String id : rest.split(",")) {
+                    tagTypeIds.add(Integer.valueOf(id));
+                }
+            }
+            apply(userId, tagTypeIds);
+        } catch (RuntimeException e) {
+            log.warn("잘못된 태그 색인 메시지: {}", body);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.pairing.buds.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 태그 역색인 상태 조회 (/actuator/tagindex)
+ * 노출하려면 management.endpoints.web.exposure.include 에 tagindex 추가
+ */
+@Component
+@Endpoint(id = "tagindex")
+@RequiredArgsConstructor
+public class TagIndexEndpoint {
+
+    private final TagIndex tagIndex;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return tagIndex.stats();
+    }
+
+}
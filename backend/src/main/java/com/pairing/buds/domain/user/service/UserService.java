@@ -5,7 +5,9 @@ import com.pairing.buds.common.auth.utils.JwtTokenProvider;
 import com.pairing.buds.common.exception.ApiException;
 import com.pairing.buds.common.response.Message;
 import com.pairing.buds.common.response.StatusCode;
+import com.pairing.buds.domain.activity.service.FriendRecommender;
 import com.pairing.buds.domain.admin.repository.AdminRepository;
+import com.pairing.buds.domain.letter.service.ReceiverPool;
 import com.pairing.buds.domain.user.dto.request.SaveReSurveyResultReqDto;
 import com.pairing.buds.domain.user.dto.request.SaveSurveyResultReqDto;
 import com.pairing.buds.domain.user.dto.request.UpdateUserInfoReqDto;
@@ -48,6 +50,11 @@ public class UserService {
     private final RandomNameRepository randomNameRepository;
     private final TagTypeRepository tagTypeRepository;
     private final AdminRepository adminRepository;
+    private final ReceiverPool receiverPool;
+    private final TagIndex tagIndex;
+    private final PersonaIndex personaIndex;
+    private final FriendRecommender friendRecommender;
+    private final LetterTokenService letterTokenService;
 
     /** 사용자 태그 조회 **/
     @Transactional
@@ -100,6 +107,8 @@ public class UserService {
         }
 
         userRepository.save(user);
+        tagIndex.updateUser(userId, tagTypeList.stream().map(TagType::getId).toList());
+        friendRecommender.updateUser(userId, tagTypeList.stream().map(TagType::getId).toList());
     }
 
     /** 전체 태그 조회 **/
@@ -127,6 +136,9 @@ public class UserService {
                 .build()).collect(Collectors.toSet()));
 
         userRepository.save(userToUpdate);
+        tagIndex.updateUser(userId, newTagTypes.stream().map(TagType::getId).toList());
+        friendRecommender.updateUser(userId, newTagTypes.stream().map(TagType::getId).toList());
+        personaIndex.updateUser(userToUpdate);
     }
 
     /** 재설문 조사 결과 저장 **/
@@ -135,6 +147,7 @@ public class UserService {
         // 수정
         User userToUpdate = SaveReSurveyResultReqDto.toUser(user, dto);
         userRepository.save(userToUpdate);
+        personaIndex.updateUser(userToUpdate);
     }
 
     /** 내 정보 조회 **/
@@ -189,6 +202,10 @@ public class UserService {
         // 탈퇴 처리 (소프트 삭제)
         user.setIsActive(false);
         userRepository.save(user);
+        receiverPool.remove(userId);
+        tagIndex.removeUser(userId);
+        personaIndex.removeUser(userId);
+        friendRecommender.removeUser(userId);
 
         // userName -> AVAILABLE로 상태변경
         randomNameRepository.findByRandomName(user.getUserName())
@@ -216,11 +233,9 @@ public class UserService {
 
     @Transactional
     public void replenishLetterCntIfNecessary() {
-        List<User> users = userRepository.findByIsActiveTrueAndLetterCntBetween(0, 4);
-
-        for (User user : users) {
-            user.setLetterCnt(5);
-        }
+        // 대상 유저를 읽어 하나씩 고치지 않고 UPDATE 한 번으로 처리
+        int updated = letterTokenService.replenishDaily();
+        log.info("편지 토큰 일일 충전: {}명", updated);
     }
     
 
@@ -0,0 +1,41 @@
+package com.pairing.buds;
+
+import com.pairing.buds.common.utils.AliasTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * alias method 가중치 추출 테스트
+ */
+class AliasTableTest {
+
+    private static final int DRAWS = 1_000_000;
+
+    @Test
+    @DisplayName("추출 빈도가 가중치 비율과 같음")
+    void draw_frequency_follows_weights() {
+        double[] weights = {1, 2, 3, 4, 0, 10, 0.5};
+        double total = 20.5;
+        AliasTable table = new AliasTable(weights);
+        int[] counts = new int[weights.length];
+        Random random = new Random(42);
+        for (int i = 0; i < DRAWS; i++) {
+            counts[table.next(random)]++;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            Assertions.assertEquals(weights[i] / total, (double) counts[i] / DRAWS, 0.005);
+        }
+        Assertions.assertEquals(0, counts[4]);
+    }
+
+    @Test
+    @DisplayName("양수 가중치가 없으면 예외")
+    void reject_non_positive_weights() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{0, 0}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+    }
+
+}
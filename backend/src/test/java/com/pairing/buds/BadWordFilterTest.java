@@ -0,0 +1,93 @@
+package com.pairing.buds;
+
+import com.pairing.buds.common.utils.BadWordFilter;
+import com.pairing.buds.common.utils.BadWordMatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * 욕설 필터 테스트
+ */
+class BadWordFilterTest {
+
+    private final BadWordFilter filter = new BadWordFilter("");
+
+    @Test
+    @DisplayName("본문 중간에 포함된 욕설 탐지")
+    void detects_bad_word_inside_content() {
+        Assertions.assertTrue(filter.isBadWord("오늘 진짜 씨발 너무 힘들다"));
+        Assertions.assertFalse(filter.isBadWord("오늘 날씨가 좋네요"));
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 / 기호 / 낱자모 / 반복 문자 / 전각 우회 탐지")
+    void detects_obfuscated_bad_words() {
+        Assertions.assertTrue(filter.isBadWord("씨 발"));
+        Assertions.assertTrue(filter.isBadWord("시.발"));
+        Assertions.assertTrue(filter.isBadWord("ㅅㅣㅂㅏㄹ"));
+        Assertions.assertTrue(filter.isBadWord("씨이이이발"));
+        Assertions.assertTrue(filter.isBadWord("ＦＵＣＫ"));
+    }
+
+    @Test
+    @DisplayName("한 글자 단어는 본문 전체가 같을 때만 탐지")
+    void single_character_words_match_whole_content_only() {
+        Assertions.assertTrue(filter.isBadWord("똥"));
+        Assertions.assertFalse(filter.isBadWord("똥 밟았어"));
+    }
+
+    @Test
+    @DisplayName("두 글자 단어는 어절 단위, 일상어와 같은 단어는 본문 전체가 같을 때만 탐지")
+    void short_words_do_not_match_inside_ordinary_text() {
+        Assertions.assertTrue(filter.isBadWord("보지"));
+        Assertions.assertTrue(filter.isBadWord("시 발"));
+        Assertions.assertTrue(filter.isBadWord("아 시발!! 늦었다"));
+        Assertions.assertFalse(filter.isBadWord("그거 보지 마"));
+        Assertions.assertFalse(filter.isBadWord("늦게 자지 마"));
+        Assertions.assertFalse(filter.isBadWord("이년 전에 만났지"));
+        Assertions.assertFalse(filter.isBadWord("공지사항 읽어봤어"));
+        Assertions.assertFalse(filter.isBadWord("라면 한 사발 먹었다"));
+        Assertions.assertFalse(filter.isBadWord("여기가 시발점이야"));
+        Assertions.assertFalse(filter.isBadWord("게이트 앞에서 보자"));
+        Assertions.assertFalse(filter.isBadWord("유방암 검진 다녀왔어"));
+        Assertions.assertFalse(filter.isBadWord("드디어 성교육 끝"));
+        Assertions.assertFalse(filter.isBadWord("호로록 마셨다"));
+        Assertions.assertFalse(filter.isBadWord("애비뉴 거리"));
+        Assertions.assertFalse(filter.isBadWord("개 세 마리를 키워"));
+        Assertions.assertFalse(filter.isBadWord("하루 세끼 잘 챙겨 먹어"));
+    }
+
+    @Test
+    @DisplayName("숫자로 시작하는 단어는 앞에 숫자가 붙으면 제외")
+    void digit_words_need_digit_boundary() {
+        Assertions.assertFalse(filter.isBadWord("2018년에 처음 왔어"));
+        Assertions.assertTrue(filter.isBadWord("이 18년아"));
+    }
+
+    @Test
+    @DisplayName("탐지 위치는 원문 기준")
+    void match_span_points_to_original_text() {
+        String content = "너 진짜 미친 놈 같아";
+        List<BadWordMatch> matches = filter.findBadWords(content);
+
+        BadWordMatch match = matches.stream()
+                .filter(m -> m.getKeyword().equals("미친놈"))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(5, match.getStart());
+        Assertions.assertEquals(9, match.getEnd());
+        Assertions.assertEquals("미친 놈", match.getText());
+    }
+
+    @Test
+    @DisplayName("사전 교체 후 바로 반영")
+    void reload_replaces_dictionary() {
+        Assertions.assertFalse(filter.isBadWord("이건 테스트 욕이야"));
+        filter.reload(List.of("테스트욕"));
+        Assertions.assertTrue(filter.isBadWord("이건 테스트 욕이야"));
+    }
+
+}
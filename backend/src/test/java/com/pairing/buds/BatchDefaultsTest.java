@@ -0,0 +1,42 @@
+package com.pairing.buds;
+
+import com.pairing.buds.common.config.BatchDefaultsEnvironmentPostProcessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import java.util.Map;
+
+/**
+ * 배치 기본 설정 테스트
+ * 잡이 여러 개(letterArchiveJob, friendRecommendationJob)라 기동 시 자동 실행이 켜져 있으면 모든 컨텍스트가 기동에 실패함
+ */
+class BatchDefaultsTest {
+
+    @Test
+    @DisplayName("환경 후처리기가 spring.factories 에 등록되어 있음")
+    void post_processor_is_registered() {
+        Assertions.assertTrue(SpringFactoriesLoader.loadFactoryNames(EnvironmentPostProcessor.class, getClass().getClassLoader())
+                .contains(BatchDefaultsEnvironmentPostProcessor.class.getName()));
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 잡 자동 실행 꺼짐, 외부 설정이 있으면 외부 설정 우선")
+    void defaults_apply_with_lowest_precedence() {
+        StandardEnvironment environment = new StandardEnvironment();
+        new BatchDefaultsEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+        Assertions.assertEquals("false", environment.getProperty("spring.batch.job.enabled"));
+        Assertions.assertEquals("always", environment.getProperty("spring.batch.jdbc.initialize-schema"));
+
+        StandardEnvironment configured = new StandardEnvironment();
+        configured.getPropertySources().addFirst(new MapPropertySource("external", Map.of("spring.batch.jdbc.initialize-schema", "never")));
+        new BatchDefaultsEnvironmentPostProcessor().postProcessEnvironment(configured, new SpringApplication());
+        Assertions.assertEquals("never", configured.getProperty("spring.batch.jdbc.initialize-schema"));
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.pairing.buds;
+
+import com.pairing.buds.common.utils.CompressedBitmap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * 압축 비트맵 테스트
+ * 배열 → 비트셋 전환(4096개 초과), 비트셋 → 배열 전환(2048개 이하) 경계를 TreeSet 결과와 비교
+ */
+class CompressedBitmapTest {
+
+    @Test
+    @DisplayName("4096개를 넘겨 비트셋으로 바뀌어도 원소와 순서가 유지됨")
+    void add_across_array_limit() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        // 한 컨테이너 안에서 듬성듬성 추가해 배열 컨테이너 상한을 넘김
+        for (int low = 0; low <= 4096 * 3; low += 3) {
+            int value = (5 << 16) | low;
+            Assertions.assertEquals(expected.add(value), bitmap.add(value));
+            if (expected.size() >= 4095 && expected.size() <= 4098) {
+                assertSameSet(expected, bitmap);
+            }
+        }
+        Assertions.assertFalse(bitmap.add((5 << 16) | 3));
+        assertSameSet(expected, bitmap);
+    }
+
+    @Test
+    @DisplayName("2048개 이하로 줄어 배열로 돌아가도 원소와 순서가 유지됨")
+    void remove_across_bitmap_threshold() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int low = 0; low < 5000; low++) {
+            bitmap.add(low);
+            expected.add(low);
+        }
+        Random random = new Random(42);
+        while (expected.size() > 2000) {
+            int value = random.nextInt(5000);
+            Assertions.assertEquals(expected.remove(value), bitmap.remove(value));
+            if (expected.size() >= 2047 && expected.size() <= 2050) {
+                assertSameSet(expected, bitmap);
+            }
+        }
+        assertSameSet(expected, bitmap);
+
+        // 배열로 돌아간 뒤 다시 4096개를 넘겨도 정상
+        for (int low = 0; low < 5000; low++) {
+            Assertions.assertEquals(expected.add(low), bitmap.add(low));
+        }
+        assertSameSet(expected, bitmap);
+    }
+
+    @Test
+    @DisplayName("여러 컨테이너에 걸친 무작위 추가/제거가 TreeSet과 같음")
+    void random_operations_match_tree_set() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            // 컨테이너 4개, 컨테이너당 최대 약 6000개라 두 전환 경계를 여러 번 오감
+            int value = (random.nextInt(4) << 16) | random.nextInt(6000);
+            if (random.nextInt(100) < 55) {
+                Assertions.assertEquals(expected.add(value), bitmap.add(value));
+            } else {
+                Assertions.assertEquals(expected.remove(value), bitmap.remove(value));
+            }
+            Assertions.assertEquals(expected.size(), bitmap.cardinality());
+        }
+        assertSameSet(expected, bitmap);
+    }
+
+    @Test
+    @DisplayName("마지막 원소를 제거하면 비어 있음")
+    void remove_last_value() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        Assertions.assertTrue(bitmap.isEmpty());
+        Assertions.assertFalse(bitmap.remove(1));
+        bitmap.add(1);
+        bitmap.add(1 << 20);
+        Assertions.assertTrue(bitmap.remove(1 << 20));
+        Assertions.assertTrue(bitmap.remove(1));
+        Assertions.assertTrue(bitmap.isEmpty());
+        Assertions.assertEquals(0, bitmap.cardinality());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> bitmap.select(0));
+    }
+
+    @Test
+    @DisplayName("음수는 저장할 수 없음")
+    void reject_negative() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    private static void assertSameSet(TreeSet<Integer> expected, CompressedBitmap bitmap) {
+        Assertions.assertEquals(expected.size(), bitmap.cardinality());
+        List<Integer> actual = new ArrayList<>(expected.size());
+        for (int rank = 0; rank < expected.size(); rank++) {
+            actual.add(bitmap.select(rank));
+        }
+        Assertions.assertEquals(new ArrayList<>(expected), actual);
+        for (Integer value : expected) {
+            Assertions.assertTrue(bitmap.contains(value));
+        }
+        Assertions.assertFalse(bitmap.contains(expected.isEmpty() ? 0 : expected.last() + 1));
+    }
+
+}
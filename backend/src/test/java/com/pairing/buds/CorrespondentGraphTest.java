@@ -0,0 +1,100 @@
+package com.pairing.buds;
+
+import com.pairing.buds.domain.letter.dto.response.MatchPairDto;
+import com.pairing.buds.domain.letter.repository.MatchRepository;
+import com.pairing.buds.domain.letter.service.CorrespondentGraph;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 편지 상대 그래프 친구의 친구 추천 테스트
+ */
+class CorrespondentGraphTest {
+
+    private static final int USERS = 2_000;
+    private static final int PAIRS = 8_000;
+
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final CorrespondentGraph graph = new CorrespondentGraph(matchRepository, 10_000_000);
+    private final Map<Integer, Set<Integer>> neighbors = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        Set<Long> seen = new HashSet<>();
+        List<MatchPairDto> pairs = new ArrayList<>();
+        while (pairs.size() < PAIRS) {
+            int a = 1 + random.nextInt(USERS);
+            int b = 1 + random.nextInt(USERS);
+            if (a == b) continue;
+            int user1 = Math.min(a, b);
+            int user2 = Math.max(a, b);
+            if (!seen.add(((long) user1 << 32) | user2)) continue;
+            pairs.add(pair(user1, user2));
+            neighbors.computeIfAbsent(user1, k -> new HashSet<>()).add(user2);
+            neighbors.computeIfAbsent(user2, k -> new HashSet<>()).add(user1);
+        }
+        pairs.sort(Comparator.comparingInt(MatchPairDto::getUser1).thenComparingInt(MatchPairDto::getUser2));
+        when(matchRepository.findPairsAfter(anyInt(), anyInt(), any(Pageable.class))).thenReturn(List.of());
+        when(matchRepository.findPairsAfter(eq(0), eq(0), any(Pageable.class))).thenReturn(pairs);
+        graph.rebuild();
+    }
+
+    @Test
+    @DisplayName("2-hop 후보와 공통 상대 수가 전체 비교 결과와 같음")
+    void friends_of_friends_match_brute_force() {
+        for (int userId = 1; userId <= USERS; userId += 37) {
+            Set<Integer> direct = neighbors.getOrDefault(userId, Set.of());
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (int friend : direct) {
+                for (int candidate : neighbors.get(friend)) {
+                    if (candidate != userId && !direct.contains(candidate)) counts.merge(candidate, 1, Integer::sum);
+                }
+            }
+            List<Integer> expected = counts.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(20)
+                    .map(e -> e.getKey() * 100 + e.getValue())
+                    .toList();
+            List<Integer> actual = graph.friendsOfFriends(userId, 20).stream()
+                    .map(c -> c.getUserId() * 100 + c.getSharedCount())
+                    .toList();
+            Assertions.assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("쌍 수 / 메모리 사용량 통계")
+    void stats_report_edges() {
+        Map<String, Object> stats = graph.stats();
+        Assertions.assertEquals(true, stats.get("ready"));
+        Assertions.assertEquals(PAIRS, stats.get("edges"));
+        Assertions.assertEquals(neighbors.size(), stats.get("nodes"));
+    }
+
+    private static MatchPairDto pair(int user1, int user2) {
+        return new MatchPairDto() {
+            @Override public Integer getUser1() { return user1; }
+            @Override public Integer getUser2() { return user2; }
+        };
+    }
+
+}
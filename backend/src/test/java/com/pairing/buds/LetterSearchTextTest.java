@@ -0,0 +1,113 @@
+package com.pairing.buds;
+
+import com.pairing.buds.common.utils.HangulNormalizer;
+import com.pairing.buds.domain.letter.dto.response.LetterSearchHitResDto;
+import com.pairing.buds.domain.letter.service.LetterSearchService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 편지 검색 bi-gram 분해 / snippet 추출 테스트
+ */
+class LetterSearchTextTest {
+
+    @Test
+    @DisplayName("한글 본문은 연속 두 글자 단위로 분해하고 색인 시에는 마지막 글자도 포함")
+    void splits_korean_text_into_bigrams() {
+        Assertions.assertEquals(List.of("안녕", "녕하", "하세", "세요"),
+                List.copyOf(LetterSearchService.grams("안녕하세요", false)));
+        Assertions.assertEquals(List.of("안녕", "녕하", "하세", "세요", "요"),
+                List.copyOf(LetterSearchService.grams("안녕하세요", true)));
+    }
+
+    @Test
+    @DisplayName("반복되는 gram 은 한 번만, 한 글자 / 빈 문자열 처리")
+    void handles_repeated_and_short_text() {
+        Assertions.assertEquals(List.of("하하", "하"), List.copyOf(LetterSearchService.grams("하하하하", true)));
+        Assertions.assertTrue(LetterSearchService.grams("가", false).isEmpty());
+        Assertions.assertEquals(Set.of("가"), LetterSearchService.grams("가", true));
+        Assertions.assertTrue(LetterSearchService.grams("", true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("영문과 한글이 섞인 본문은 정규화 후 글자 경계와 무관하게 분해")
+    void splits_mixed_text_after_normalization() {
+        String text = HangulNormalizer.normalize("Hello 세계!").text();
+        Assertions.assertEquals(List.of("he", "el", "lo", "o세", "세계"),
+                List.copyOf(LetterSearchService.grams(text, false)));
+    }
+
+    @Test
+    @DisplayName("한글 검색어 일치 구간을 원문 위치로 표시")
+    void highlights_korean_match() {
+        LetterSearchHitResDto hit = snippet("오늘 날씨가 정말 좋네요", "날씨");
+
+        Assertions.assertEquals("오늘 날씨가 정말 좋네요", hit.getSnippet());
+        Assertions.assertEquals(List.of("날씨"), highlighted(hit));
+    }
+
+    @Test
+    @DisplayName("띄어쓰기가 들어간 원문도 검색어와 일치하고 원문 그대로 표시")
+    void highlights_match_across_spaces() {
+        LetterSearchHitResDto hit = snippet("오늘 날씨가 정말 좋네요", "날씨가 정말");
+
+        Assertions.assertEquals(List.of("날씨가 정말"), highlighted(hit));
+        Assertions.assertEquals(3, hit.getHighlights().get(0).getStart());
+        Assertions.assertEquals(9, hit.getHighlights().get(0).getEnd());
+    }
+
+    @Test
+    @DisplayName("영문 대소문자가 섞인 본문에서 모든 일치 구간 표시")
+    void highlights_every_match_in_mixed_text() {
+        LetterSearchHitResDto hit = snippet("Hello 세계 World, hello again", "HELLO");
+
+        Assertions.assertEquals(List.of("Hello", "hello"), highlighted(hit));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 겹치지 않는 모든 위치 표시")
+    void highlights_single_character_query() {
+        LetterSearchHitResDto hit = snippet("좋아 좋아 정말 좋아", "좋");
+
+        Assertions.assertEquals(3, hit.getHighlights().size());
+        Assertions.assertEquals(List.of("좋", "좋", "좋"), highlighted(hit));
+    }
+
+    @Test
+    @DisplayName("긴 본문은 첫 일치 위치 앞뒤만 잘라서 표시")
+    void cuts_long_content_around_first_match() {
+        String content = "가나".repeat(30) + "목표단어" + "다라".repeat(30);
+        LetterSearchHitResDto hit = snippet(content, "목표");
+
+        Assertions.assertTrue(hit.getSnippet().length() < content.length());
+        Assertions.assertTrue(hit.getSnippet().startsWith("가나"));
+        Assertions.assertEquals(30, hit.getHighlights().get(0).getStart());
+        Assertions.assertEquals(List.of("목표"), highlighted(hit));
+    }
+
+    @Test
+    @DisplayName("snippet 경계에서 서로게이트 쌍(이모지)을 자르지 않음")
+    void keeps_surrogate_pairs_whole() {
+        String content = "a" + "😀".repeat(20) + "x목표";
+        LetterSearchHitResDto hit = snippet(content, "목표");
+
+        Assertions.assertFalse(Character.isLowSurrogate(hit.getSnippet().charAt(0)));
+        Assertions.assertEquals(List.of("목표"), highlighted(hit));
+    }
+
+    private static LetterSearchHitResDto snippet(String content, String query) {
+        return LetterSearchService.snippet(content, HangulNormalizer.normalize(content),
+                HangulNormalizer.normalize(query).text());
+    }
+
+    private static List<String> highlighted(LetterSearchHitResDto hit) {
+        return hit.getHighlights().stream()
+                .map(h -> hit.getSnippet().substring(h.getStart(), h.getEnd()))
+                .toList();
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.pairing.buds;
+
+import com.pairing.buds.domain.user.entity.SignupStatus;
+import com.pairing.buds.domain.user.entity.User;
+import com.pairing.buds.domain.user.entity.UserCharacter;
+import com.pairing.buds.domain.user.entity.UserRole;
+import com.pairing.buds.domain.user.repository.UserRepository;
+import com.pairing.buds.domain.user.service.LetterTokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 편지 토큰 동시성 테스트
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 클래스에 @Transactional 을 붙이지 않고 직접 정리
+ */
+@SpringBootTest
+class LetterTokenConcurrencyTest {
+
+    private static final String EMAIL = "letter-token@buds.co.kr";
+    private static final int THREADS = 32;
+
+    @Autowired
+    private LetterTokenService letterTokenService;
+    @Autowired
+    private UserRepository userRepository;
+
+    private int userId;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.findByUserEmail(EMAIL).ifPresent(userRepository::delete);
+
+        User u = new User();
+        u.setUserEmail(EMAIL);
+        u.setPassword("not-used");
+        u.setRole(UserRole.USER);
+        u.setIsActive(true);
+        u.setLetterCnt(0);
+        u.setUserName("token");
+        u.setExpressionScore(10);
+        u.setUserCharacter(UserCharacter.GECKO);
+        u.setIsCompleted(SignupStatus.DONE);
+        u.setSeclusionScore(10);
+        u.setSociabilityScore(10);
+        u.setOpennessScore(10);
+        u.setQuietnessScore(10);
+        u.setRoutineScore(10);
+        userId = userRepository.save(u).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("동시 차감 : 잔액만큼만 성공하고 음수가 되지 않음")
+    void concurrent_consume_never_overdraws() throws Exception {
+        setBalance(100);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(300, i -> {
+            if (letterTokenService.tryConsume(userId)) succeeded.incrementAndGet();
+        });
+
+        Assertions.assertEquals(100, succeeded.get());
+        Assertions.assertEquals(0, balance());
+    }
+
+    @Test
+    @DisplayName("동시 지급/차감 : 갱신 유실 없음")
+    void concurrent_grant_and_consume_lose_no_updates() throws Exception {
+        setBalance(0);
+
+        AtomicInteger consumed = new AtomicInteger();
+        runConcurrently(400, i -> {
+            if (i % 2 == 0) {
+                letterTokenService.grant(userId, 1);
+            } else if (letterTokenService.tryConsume(userId)) {
+                consumed.incrementAndGet();
+            }
+        });
+
+        int balance = balance();
+        Assertions.assertTrue(balance >= 0);
+        Assertions.assertEquals(200 - consumed.get(), balance);
+    }
+
+    private void setBalance(int amount) {
+        if (amount > 0) letterTokenService.grant(userId, amount);
+    }
+
+    private int balance() {
+        return userRepository.findById(userId).orElseThrow().getLetterCnt();
+    }
+
+    private void runConcurrently(int requests, IntTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            int n = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(n);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int i);
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.pairing.buds;
+
+import com.pairing.buds.domain.user.dto.response.UserPersonaDto;
+import com.pairing.buds.domain.user.repository.UserRepository;
+import com.pairing.buds.domain.user.service.PersonaIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 페르소나 최근접 이웃 색인 테스트
+ * 점수는 실제 설문과 같은 범위 (은둔 지수 0~40, 나머지 0~4)
+ */
+class PersonaIndexTest {
+
+    private static final int USERS = 5_000;
+    /** 항목별 최대 점수 (은둔 지수, 개방성, 사교성, 규칙성, 조용함, 표현력) **/
+    private static final int[] MAX_SCORES = {40, 4, 4, 4, 4, 4};
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PersonaIndex index = new PersonaIndex(userRepository, null, null);
+    private final List<int[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        List<UserPersonaDto> batch = new ArrayList<>();
+        for (int id = 1; id <= USERS; id++) {
+            int[] row = new int[PersonaIndex.DIMENSIONS + 1];
+            row[0] = id;
+            for (int d = 1; d <= PersonaIndex.DIMENSIONS; d++) {
+                row[d] = random.nextInt(MAX_SCORES[d - 1] + 1);
+            }
+            rows.add(row);
+            batch.add(persona(row));
+        }
+        when(userRepository.findActivePersonasAfter(anyInt(), any(Pageable.class))).thenReturn(List.of());
+        when(userRepository.findActivePersonasAfter(eq(0), any(Pageable.class))).thenReturn(batch);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("k-d 트리 검색 결과가 전체 비교 결과와 같음")
+    void nearest_matches_brute_force() {
+        Random random = new Random(7);
+        for (int q = 0; q < 50; q++) {
+            int[] scores = new int[PersonaIndex.DIMENSIONS];
+            for (int d = 0; d < scores.length; d++) {
+                scores[d] = random.nextInt(MAX_SCORES[d] + 1);
+            }
+            byte[] query = scaled(scores);
+            int excludeId = 1 + random.nextInt(USERS);
+
+            List<Integer> expected = rows.stream()
+                    .filter(row -> row[0] != excludeId)
+                    .sorted(Comparator.<int[]>comparingInt(row -> distance(row, query)).thenComparingInt(row -> row[0]))
+                    .limit(20)
+                    .map(row -> row[0])
+                    .toList();
+            Assertions.assertEquals(expected, index.nearest(query, 20, excludeId));
+        }
+    }
+
+    @Test
+    @DisplayName("거리가 같으면 다른 하위 트리에 있어도 id가 작은 유저 우선")
+    void equal_distance_prefers_smaller_id() {
+        // 좌표 범위를 좁혀 같은 거리의 유저가 여러 하위 트리에 흩어지도록 함
+        Random random = new Random(11);
+        List<int[]> tied = new ArrayList<>();
+        List<UserPersonaDto> batch = new ArrayList<>();
+        for (int id = 1; id <= 3_000; id++) {
+            int[] row = new int[PersonaIndex.DIMENSIONS + 1];
+            row[0] = id;
+            for (int d = 1; d <= PersonaIndex.DIMENSIONS; d++) {
+                row[d] = 1 + random.nextInt(3);
+            }
+            tied.add(row);
+            batch.add(persona(row));
+        }
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findActivePersonasAfter(anyInt(), any(Pageable.class))).thenReturn(List.of());
+        when(repository.findActivePersonasAfter(eq(0), any(Pageable.class))).thenReturn(batch);
+        PersonaIndex tiedIndex = new PersonaIndex(repository, null, null);
+        tiedIndex.rebuild();
+
+        for (int q = 0; q < 50; q++) {
+            int[] scores = new int[PersonaIndex.DIMENSIONS];
+            for (int d = 0; d < scores.length; d++) {
+                scores[d] = 1 + random.nextInt(3);
+            }
+            byte[] query = scaled(scores);
+            int k = 1 + random.nextInt(10);
+            List<Integer> expected = tied.stream()
+                    .sorted(Comparator.<int[]>comparingInt(row -> distance(row, query)).thenComparingInt(row -> row[0]))
+                    .limit(k)
+                    .map(row -> row[0])
+                    .toList();
+            Assertions.assertEquals(expected, tiedIndex.nearest(query, k, -1));
+        }
+    }
+
+    @Test
+    @DisplayName("적재된 유저의 좌표는 항목별 범위를 0 ~ SCALE 로 환산한 값")
+    void vector_of_indexed_user() {
+        int[] row = rows.get(123);
+        byte[] vector = index.vectorOf(row[0]);
+        Assertions.assertNotNull(vector);
+        Assertions.assertArrayEquals(scaled(Arrays.copyOfRange(row, 1, row.length)), vector);
+        Assertions.assertNull(index.vectorOf(USERS + 1));
+    }
+
+    @Test
+    @DisplayName("은둔 지수 점수 범위가 커도 나머지 항목 차이를 무시하지 않음")
+    void dimensions_are_weighted_by_their_own_range() {
+        // 1번 : 은둔 지수는 같고 나머지 다섯 항목이 2점씩 다름, 2번 : 은둔 지수만 10점 다름
+        int[][] people = {
+                {1, 20, 0, 0, 0, 0, 0},
+                {2, 10, 2, 2, 2, 2, 2},
+        };
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findActivePersonasAfter(anyInt(), any(Pageable.class))).thenReturn(List.of());
+        when(repository.findActivePersonasAfter(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(persona(people[0]), persona(people[1])));
+        PersonaIndex small = new PersonaIndex(repository, null, null);
+        small.rebuild();
+
+        Assertions.assertEquals(List.of(2, 1), small.nearest(scaled(new int[]{20, 2, 2, 2, 2, 2}), 2, -1));
+    }
+
+    @Test
+    @DisplayName("모든 항목에 0점으로 답한 유저도 색인")
+    void all_zero_answers_are_indexed() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findActivePersonasAfter(anyInt(), any(Pageable.class))).thenReturn(List.of());
+        when(repository.findActivePersonasAfter(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(persona(new int[]{1, 0, 0, 0, 0, 0, 0})));
+        PersonaIndex small = new PersonaIndex(repository, null, null);
+        small.rebuild();
+
+        Assertions.assertArrayEquals(new byte[PersonaIndex.DIMENSIONS], small.vectorOf(1));
+        Assertions.assertEquals(List.of(1), small.nearest(new byte[PersonaIndex.DIMENSIONS], 1, -1));
+    }
+
+    private static int distance(int[] row, byte[] query) {
+        byte[] vector = scaled(Arrays.copyOfRange(row, 1, row.length));
+        int sum = 0;
+        for (int d = 0; d < PersonaIndex.DIMENSIONS; d++) {
+            int diff = vector[d] - query[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    // 항목별 점수 → 0 ~ SCALE 좌표 (위 MAX_SCORES 가 모두 SCALE 의 약수라 나누어 떨어짐)
+    private static byte[] scaled(int[] scores) {
+        byte[] vector = new byte[PersonaIndex.DIMENSIONS];
+        for (int d = 0; d < vector.length; d++) {
+            vector[d] = (byte) (scores[d] * PersonaIndex.SCALE / MAX_SCORES[d]);
+        }
+        return vector;
+    }
+
+    private static UserPersonaDto persona(int[] row) {
+        return new UserPersonaDto() {
+            @Override public Integer getId() { return row[0]; }
+            @Override public Integer getSeclusionScore() { return row[1]; }
+            @Override public Integer getOpennessScore() { return row[2]; }
+            @Override public Integer getSociabilityScore() { return row[3]; }
+            @Override public Integer getRoutineScore() { return row[4]; }
+            @Override public Integer getQuietnessScore() { return row[5]; }
+            @Override public Integer getExpressionScore() { return row[6]; }
+        };
+    }
+
+}
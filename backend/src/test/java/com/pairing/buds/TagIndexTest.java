@@ -0,0 +1,117 @@
+package com.pairing.buds;
+
+import com.pairing.buds.domain.user.dto.response.UserTagIdDto;
+import com.pairing.buds.domain.user.repository.TagRepository;
+import com.pairing.buds.domain.user.service.TagIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 태그 역색인 샘플링 테스트
+ * 태그 1: 유저 1~1000, 태그 2: 유저 501~3000 (501~1000 은 두 태그 모두 보유)
+ */
+class TagIndexTest {
+
+    private static final int DRAWS = 100_000;
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final TagIndex index = new TagIndex(tagRepository, null, null);
+    private final Set<Integer> union = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        List<UserTagIdDto> batch = new ArrayList<>();
+        for (int userId = 1; userId <= 1000; userId++) {
+            batch.add(row(batch.size() + 1, userId, 1));
+        }
+        for (int userId = 501; userId <= 3000; userId++) {
+            batch.add(row(batch.size() + 1, userId, 2));
+        }
+        for (UserTagIdDto dto : batch) {
+            union.add(dto.getUserId());
+        }
+        when(tagRepository.findActiveUserTagIdsAfter(anyInt(), any(Pageable.class))).thenReturn(List.of());
+        when(tagRepository.findActiveUserTagIdsAfter(eq(0), any(Pageable.class))).thenReturn(batch);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("여러 태그를 가진 유저도 합집합 위에서 균등하게 뽑힘")
+    void sample_is_uniform_over_union() {
+        int[] counts = new int[3];
+        for (int i = 0; i < DRAWS; i++) {
+            List<Integer> picked = index.sample(List.of(1, 2), 1, 0);
+            Assertions.assertEquals(1, picked.size());
+            int userId = picked.get(0);
+            counts[userId <= 500 ? 0 : userId <= 1000 ? 1 : 2]++;
+        }
+        // 구간별 유저 수 500 / 500 / 2000
+        Assertions.assertEquals(1.0 / 6, (double) counts[0] / DRAWS, 0.01);
+        Assertions.assertEquals(1.0 / 6, (double) counts[1] / DRAWS, 0.01);
+        Assertions.assertEquals(4.0 / 6, (double) counts[2] / DRAWS, 0.01);
+    }
+
+    @Test
+    @DisplayName("제외 유저 없이 합집합 안에서 중복 없이 뽑힘")
+    void sample_excludes_user_and_stays_in_union() {
+        for (int excludeId : new int[]{1, 750, 3000}) {
+            for (int i = 0; i < 200; i++) {
+                List<Integer> picked = index.sample(List.of(1, 2), 50, excludeId);
+                Assertions.assertEquals(50, picked.size());
+                Assertions.assertEquals(50, new HashSet<>(picked).size());
+                Assertions.assertFalse(picked.contains(excludeId));
+                Assertions.assertTrue(union.containsAll(picked));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("한 태그만 고르면 그 태그를 가진 유저만 뽑힘")
+    void sample_single_tag() {
+        for (int i = 0; i < 200; i++) {
+            for (Integer userId : index.sample(List.of(1), 20, 0)) {
+                Assertions.assertTrue(userId >= 1 && userId <= 1000);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("유저가 없는 태그만 고르면 빈 결과")
+    void sample_unknown_tag() {
+        Assertions.assertEquals(List.of(), index.sample(List.of(99), 10, 0));
+    }
+
+    private static UserTagIdDto row(int id, int userId, int tagTypeId) {
+        return new UserTagIdDto() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Integer getTagTypeId() {
+                return tagTypeId;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.pairing.buds;
+
+import com.pairing.buds.common.utils.MinHash;
+import com.pairing.buds.domain.activity.batch.TagProfileModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 태그 유사도 추천 모델 테스트
+ */
+class TagProfileModelTest {
+
+    @Test
+    @DisplayName("같은 태그 조합 유저가 먼저, 자기 자신은 제외")
+    void recommend_same_profile_first() {
+        TagProfileModel model = new TagProfileModel();
+        model.add(1, new int[]{1, 2, 3});
+        model.add(2, new int[]{1, 2, 3});
+        model.add(3, new int[]{1, 2, 4});
+        model.add(4, new int[]{7, 8});
+        model.index(new MinHash(32, 1, 1L), 16);
+
+        int[] recommended = model.recommend(0, 10);
+        Assertions.assertEquals(2, recommended[0]);
+        Assertions.assertTrue(Arrays.stream(recommended).noneMatch(id -> id == 1 || id == 4));
+    }
+
+    @Test
+    @DisplayName("추천 결과는 유사도 내림차순이고 중복이 없음")
+    void recommend_sorted_by_jaccard() {
+        Random random = new Random(42);
+        int users = 2_000;
+        int[][] tags = new int[users + 1][];
+        TagProfileModel model = new TagProfileModel();
+        for (int id = 1; id <= users; id++) {
+            Set<Integer> set = new HashSet<>();
+            int size = 1 + random.nextInt(4);
+            while (set.size() < size) set.add(1 + random.nextInt(12));
+            tags[id] = set.stream().mapToInt(Integer::intValue).sorted().toArray();
+            model.add(id, tags[id]);
+        }
+        model.index(new MinHash(16, 2, 7L), 64);
+
+        for (int i = 0; i < model.size(); i += 97) {
+            int userId = model.userIdAt(i);
+            int[] recommended = model.recommend(i, 30);
+            Assertions.assertEquals(30, recommended.length);
+            Assertions.assertEquals(recommended.length, Arrays.stream(recommended).distinct().count());
+            double previous = 1.0;
+            for (int id : recommended) {
+                Assertions.assertNotEquals(userId, id);
+                double similarity = MinHash.jaccard(tags[userId], tags[id]);
+                Assertions.assertTrue(similarity > 0 && similarity <= previous);
+                previous = similarity;
+            }
+        }
+    }
+
+}